@@ -0,0 +1,105 @@
+package application;
+
+import graph.core.CSRGraph;
+import graph.core.GraphIO;
+import graph.core.GraphView;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Per-dataset directory of stage results (root/<sha-256 of the dataset>/<stage>.bin).
+ * Because the key is the content hash, an edited dataset never resumes from stale
+ * stages, and a renamed one still does.
+ */
+class CheckpointStore {
+    private final Path dir;
+    private final String key;
+
+    private CheckpointStore(Path dir, String key) {
+        this.dir = dir;
+        this.key = key;
+    }
+
+    // hashes the dataset file, or the name when there is no file (built-in sample data)
+    static CheckpointStore open(Path root, Path dataset, String name) throws IOException {
+        return Files.isRegularFile(dataset) ? open(root, sha256(dataset)) : openSample(root, name);
+    }
+
+    // for the built-in sample substituted when a dataset file exists but cannot be loaded
+    static CheckpointStore openSample(Path root, String name) throws IOException {
+        return open(root, sha256(("sample:" + name).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static CheckpointStore open(Path root, String key) throws IOException {
+        Path dir = root.resolve(key);
+        Files.createDirectories(dir);
+        return new CheckpointStore(dir, key);
+    }
+
+    boolean has(String stage) {
+        return Files.isRegularFile(file(stage));
+    }
+
+    void saveGraph(String stage, GraphView graph) throws IOException {
+        GraphIO.writeGraph(graph, file(stage));
+    }
+
+    CSRGraph loadGraph(String stage) throws IOException {
+        return GraphIO.readGraph(file(stage));
+    }
+
+    void saveInts(String stage, int[] values) throws IOException {
+        GraphIO.writeInts(values, file(stage));
+    }
+
+    int[] loadInts(String stage) throws IOException {
+        return GraphIO.readInts(file(stage));
+    }
+
+    void saveDoubles(String stage, double[] values) throws IOException {
+        GraphIO.writeDoubles(values, file(stage));
+    }
+
+    double[] loadDoubles(String stage) throws IOException {
+        return GraphIO.readDoubles(file(stage));
+    }
+
+    String getKey() { return key; }
+    Path getDirectory() { return dir; }
+
+    private Path file(String stage) {
+        return dir.resolve(stage + ".bin");
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read; (read = in.read(buffer)) != -1; ) digest.update(buffer, 0, read);
+        }
+        return hex(digest.digest());
+    }
+
+    private static String sha256(byte[] bytes) {
+        return hex(newDigest().digest(bytes));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) sb.append(String.format("%02x", b));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package graph.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one run of an algorithm phase. Disabled unless a
+ * recording turns it on (see smartcity.jfc); while disabled, start() and
+ * finish() cost one isEnabled() check. Allocation is that of the calling
+ * thread, so work handed to pool threads is not included.
+ */
+@Name("smartcity.AlgorithmPhase")
+@Label("Algorithm Phase")
+@Category({"Smart City", "Graph Algorithms"})
+@Description("Duration, graph size and work counters of one algorithm phase")
+@Enabled(false)
+@StackTrace(false)
+public class AlgorithmPhaseEvent extends Event {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Vertices")
+    int vertices;
+
+    @Label("Edges")
+    long edges;
+
+    @Label("Edges Processed")
+    long edgesProcessed;
+
+    @Label("Operations")
+    long operations;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    public static AlgorithmPhaseEvent start(String algorithm, String phase, GraphView graph) {
+        AlgorithmPhaseEvent event = new AlgorithmPhaseEvent();
+        if (event.isEnabled()) {
+            event.algorithm = algorithm;
+            event.phase = phase;
+            event.vertices = graph.getNumVertices();
+            event.edges = graph.getNumEdges();
+            event.allocatedBytes = -threadAllocatedBytes();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(Metrics metrics) {
+        if (!isEnabled()) return;
+        end();
+        if (shouldCommit()) {
+            edgesProcessed = metrics.getEdgesProcessed();
+            operations = metrics.getOperationCount() + metrics.getDFSVisits();
+            allocatedBytes += threadAllocatedBytes();
+            commit();
+        }
+    }
+
+    // 0 when the JVM cannot measure per-thread allocation
+    static long threadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,154 @@
+package graph.core;
+
+import java.util.Arrays;
+
+/**
+ * Immutable compressed-sparse-row graph held in four primitive arrays.
+ */
+public class CSRGraph implements GraphView {
+    private final int numVertices;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final double[] vertexWeights;
+    private CSRGraph reverseCache;
+
+    CSRGraph(int[] offsets, int[] targets, double[] weights, double[] vertexWeights) {
+        this.numVertices = vertexWeights.length;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.vertexWeights = vertexWeights;
+    }
+
+    public static CSRGraph copyOf(GraphView source) {
+        int n = source.getNumVertices();
+        int m = checkedEdgeCount(source);
+
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        double[] vertexWeights = new double[n];
+
+        EdgeCursor cursor = source.newEdgeCursor();
+        int pos = 0;
+        for (int v = 0; v < n; v++) {
+            offsets[v] = pos;
+            vertexWeights[v] = source.getVertexWeight(v);
+            cursor.reset(v);
+            while (cursor.next()) {
+                targets[pos] = cursor.target();
+                weights[pos] = cursor.weight();
+                pos++;
+            }
+        }
+        offsets[n] = pos;
+        return new CSRGraph(offsets, targets, weights, vertexWeights);
+    }
+
+    public static CSRGraph relabel(GraphView source, int[] newId) {
+        int n = source.getNumVertices();
+        if (newId.length != n) {
+            throw new IllegalArgumentException("Permutation size " + newId.length + " does not match " + n + " vertices");
+        }
+        int m = checkedEdgeCount(source);
+        int[] oldId = new int[n];
+        for (int v = 0; v < n; v++) oldId[newId[v]] = v;
+
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        double[] vertexWeights = new double[n];
+
+        EdgeCursor cursor = source.newEdgeCursor();
+        int pos = 0;
+        for (int v = 0; v < n; v++) {
+            int old = oldId[v];
+            offsets[v] = pos;
+            vertexWeights[v] = source.getVertexWeight(old);
+            cursor.reset(old);
+            while (cursor.next()) {
+                targets[pos] = newId[cursor.target()];
+                weights[pos] = cursor.weight();
+                pos++;
+            }
+        }
+        offsets[n] = pos;
+        return new CSRGraph(offsets, targets, weights, vertexWeights);
+    }
+
+    public static CSRGraph transpose(GraphView source) {
+        int n = source.getNumVertices();
+        int m = checkedEdgeCount(source);
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        double[] vertexWeights = new double[n];
+
+        EdgeCursor cursor = source.newEdgeCursor();
+        for (int u = 0; u < n; u++) {
+            vertexWeights[u] = source.getVertexWeight(u);
+            cursor.reset(u);
+            while (cursor.next()) offsets[cursor.target() + 1]++;
+        }
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int u = 0; u < n; u++) {
+            cursor.reset(u);
+            while (cursor.next()) {
+                int slot = fill[cursor.target()]++;
+                targets[slot] = u;
+                weights[slot] = cursor.weight();
+            }
+        }
+        return new CSRGraph(offsets, targets, weights, vertexWeights);
+    }
+
+    private static int checkedEdgeCount(GraphView source) {
+        long m = source.getNumEdges();
+        if (m > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges for an on-heap CSR graph: " + m);
+        }
+        return (int) m;
+    }
+
+    public int getNumVertices() { return numVertices; }
+    public long getNumEdges() { return offsets[numVertices]; }
+    public int getOutDegree(int vertex) { return offsets[vertex + 1] - offsets[vertex]; }
+    public int getEdgeTarget(int vertex, int index) { return targets[offsets[vertex] + index]; }
+    public double getEdgeWeight(int vertex, int index) { return weights[offsets[vertex] + index]; }
+    public double getVertexWeight(int vertex) { return vertexWeights[vertex]; }
+
+    // raw arrays for kernels that scan them directly; callers must not modify them
+    public int[] getOffsets() { return offsets; }
+    public int[] getTargets() { return targets; }
+    public double[] getWeights() { return weights; }
+    public double[] getVertexWeights() { return vertexWeights; }
+
+    public EdgeCursor newEdgeCursor() {
+        return new ArrayEdgeCursor();
+    }
+
+    public CSRGraph reverseView() {
+        if (reverseCache == null) {
+            reverseCache = transpose(this);
+            reverseCache.reverseCache = this;
+        }
+        return reverseCache;
+    }
+
+    private final class ArrayEdgeCursor implements EdgeCursor {
+        private int pos;
+        private int end;
+
+        public void reset(int vertex) {
+            pos = offsets[vertex] - 1;
+            end = offsets[vertex + 1];
+        }
+
+        public boolean next() { return ++pos < end; }
+        public int target() { return targets[pos]; }
+        public double weight() { return weights[pos]; }
+    }
+}
@@ -1,8 +1,10 @@
 package graph.core;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import org.json.JSONArray;
@@ -12,9 +14,178 @@ public class DataLoader {
 
     private static final String DATA_PATH = "src/main/resources/data/";
 
+    public static Path datasetPath(String filename) {
+        return Paths.get(DATA_PATH + filename);
+    }
+
     public static Graph loadDataset(String filename) throws IOException {
-        String content = Files.readString(Paths.get(DATA_PATH + filename));
-        return parseJSON(content);
+        Path file = Paths.get(DATA_PATH + filename);
+        GraphLoadEvent event = GraphLoadEvent.start(file, "JSON");
+        Graph g = parseJSON(Files.readString(file));
+        event.finish(g);
+        return g;
+    }
+
+    // vertex and edge counts of a dataset, read without building the graph
+    public static class Header {
+        public final int n;
+        public final long m;
+
+        public Header(int n, long m) {
+            this.n = n;
+            this.m = m;
+        }
+    }
+
+    public static Header readHeader(String filename) throws IOException {
+        return readHeader(Paths.get(DATA_PATH + filename));
+    }
+
+    // uses "n" and "m" when present, otherwise counts the objects of the "edges" array in one streaming pass
+    public static Header readHeader(Path file) throws IOException {
+        long[] nm = {-1, -1, 0};
+        scan(file, new FieldSink() {
+            public void field(String array, String key, String value) {
+                if (array != null) return;
+                if (key.equals("n")) nm[0] = Long.parseLong(value);
+                if (key.equals("m")) nm[1] = Long.parseLong(value);
+            }
+
+            public void endElement(String array) {
+                if (array.equals("edges")) nm[2]++;
+            }
+        });
+        if (nm[0] < 0 || nm[0] > Integer.MAX_VALUE) {
+            throw new IOException("Dataset header has no valid \"n\": " + file);
+        }
+        return new Header((int) nm[0], nm[1] >= 0 ? nm[1] : nm[2]);
+    }
+
+    public static CSRGraph loadDatasetCompact(String filename) throws IOException {
+        return loadDatasetCompact(Paths.get(DATA_PATH + filename));
+    }
+
+    // same input as loadDataset, but streamed straight into CSR arrays: one pass for the header, one for the
+    // vertices and edges, so neither the file text nor a JSON tree is held in memory
+    public static CSRGraph loadDatasetCompact(Path file) throws IOException {
+        GraphLoadEvent event = GraphLoadEvent.start(file, "JSON compact");
+        Header header = readHeader(file);
+        GraphBuilder builder = new GraphBuilder(header.n, (int) Math.min(header.m, Integer.MAX_VALUE - 8));
+        scan(file, new FieldSink() {
+            private int id = -1;
+            private int from = -1;
+            private int to = -1;
+            private double weight = 1.0;
+
+            public void field(String array, String key, String value) throws IOException {
+                if (array == null) return;
+                switch (key) {
+                    case "id": id = parseInt(file, value); break;
+                    case "from": from = parseInt(file, value); break;
+                    case "to": to = parseInt(file, value); break;
+                    case "weight": weight = parseDouble(file, value); break;
+                    default:
+                }
+            }
+
+            public void endElement(String array) throws IOException {
+                if (array.equals("vertices")) {
+                    if (id < 0) throw new IOException("Vertex without \"id\" in " + file);
+                    builder.setVertexWeight(id, weight);
+                } else if (array.equals("edges")) {
+                    if (from < 0 || to < 0) throw new IOException("Edge without \"from\" or \"to\" in " + file);
+                    builder.addEdge(from, to, weight);
+                }
+                id = from = to = -1;
+                weight = 1.0;
+            }
+        });
+        CSRGraph g = builder.build();
+        event.finish(g);
+        return g;
+    }
+
+    /** Receives the scalar fields of a dataset file as they stream past. */
+    private interface FieldSink {
+        // array is null for top-level fields, else the top-level array whose element object holds the field
+        void field(String array, String key, String value) throws IOException;
+
+        // an object directly inside a top-level array has closed
+        void endElement(String array) throws IOException;
+    }
+
+    // single-pass tokenizer: reports top-level scalars and the scalars of objects inside top-level arrays,
+    // skipping everything nested deeper; string contents never count as structure
+    private static void scan(Path file, FieldSink sink) throws IOException {
+        int depth = 0;
+        String array = null;
+        StringBuilder token = new StringBuilder();
+        String lastKey = null;
+        boolean inString = false;
+        boolean escaped = false;
+
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            int c;
+            while ((c = reader.read()) != -1) {
+                char ch = (char) c;
+                if (inString) {
+                    if (escaped) escaped = false;
+                    else if (ch == '\\') escaped = true;
+                    else if (ch == '"') inString = false;
+                    else token.append(ch);
+                    continue;
+                }
+                switch (ch) {
+                    case '"':
+                        inString = true;
+                        token.setLength(0);
+                        break;
+                    case ':':
+                        lastKey = token.toString();
+                        token.setLength(0);
+                        break;
+                    case '{':
+                    case '[':
+                        depth++;
+                        if (ch == '[' && depth == 2) array = lastKey;
+                        token.setLength(0);
+                        break;
+                    case '}':
+                    case ']':
+                    case ',':
+                        if (lastKey != null && token.length() > 0) {
+                            if (depth == 1) sink.field(null, lastKey, token.toString());
+                            else if (depth == 3 && array != null) sink.field(array, lastKey, token.toString());
+                        }
+                        if (ch == '}' && depth == 3 && array != null) sink.endElement(array);
+                        if (ch != ',') {
+                            if (depth == 2) array = null;
+                            depth--;
+                        }
+                        token.setLength(0);
+                        if (depth == 1) lastKey = null;
+                        break;
+                    default:
+                        if (!Character.isWhitespace(ch)) token.append(ch);
+                }
+            }
+        }
+    }
+
+    private static int parseInt(Path file, String value) throws IOException {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Not a vertex id in " + file + ": " + value);
+        }
+    }
+
+    private static double parseDouble(Path file, String value) throws IOException {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Not a weight in " + file + ": " + value);
+        }
     }
 
     private static Graph parseJSON(String json) {
@@ -49,7 +220,7 @@ public class DataLoader {
         File dir = new File(DATA_PATH);
         if (!dir.exists()) return Collections.emptyList();
 
-        File[] files = dir.listFiles((d, n) -> n.endsWith(".json"));
+        File[] files = dir.listFiles((d, n) -> n.endsWith(".json") || EdgeListLoader.isEdgeList(n));
         if (files == null) return Collections.emptyList();
 
         Arrays.sort(files);
@@ -0,0 +1,12 @@
+package graph.core;
+
+/**
+ * Forward-only cursor over the out-edges of one vertex at a time.
+ * Typical use: {@code c.reset(v); while (c.next()) { c.target(); c.weight(); }}
+ */
+public interface EdgeCursor {
+    void reset(int vertex);
+    boolean next();
+    int target();
+    double weight();
+}
@@ -0,0 +1,295 @@
+package graph.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Loads "from,to[,weight]" edge lists (comma, tab or semicolon separated) into a
+ * CSRGraph. The file is cut into one byte range per thread; a range owns every
+ * line that starts inside it, so no line is parsed twice or lost. Each thread
+ * parses into its own primitive buffers, and a counting sort over the buffers in
+ * range order builds the CSR, so edge order per vertex matches the file.
+ * A non-numeric first line is taken as a header; blank lines and lines starting
+ * with '#' are skipped. The vertex count is the largest id + 1 unless given.
+ */
+public final class EdgeListLoader {
+    private static final int READ_CHUNK = 1 << 20;
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int k = 1; k < POWERS_OF_TEN.length; k++) POWERS_OF_TEN[k] = POWERS_OF_TEN[k - 1] * 10;
+    }
+
+    private EdgeListLoader() {
+    }
+
+    public static boolean isEdgeList(String filename) {
+        String name = filename.toLowerCase();
+        return name.endsWith(".csv") || name.endsWith(".tsv") || name.endsWith(".edges");
+    }
+
+    public static CSRGraph load(Path file) throws IOException {
+        return load(file, Runtime.getRuntime().availableProcessors(), -1);
+    }
+
+    // vertices < 0 means "largest id + 1"
+    public static CSRGraph load(Path file, int threads, int vertices) throws IOException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required: " + threads);
+        }
+        GraphLoadEvent event = GraphLoadEvent.start(file, "edge list");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int parts = (int) Math.max(1, Math.min(threads, size / READ_CHUNK + 1));
+            List<EdgeBuffer> buffers = new ArrayList<>(parts);
+
+            if (parts == 1) {
+                buffers.add(parseRange(channel, 0, size));
+            } else {
+                ExecutorService pool = Executors.newFixedThreadPool(parts);
+                try {
+                    List<Future<EdgeBuffer>> futures = new ArrayList<>(parts);
+                    for (int p = 0; p < parts; p++) {
+                        long start = size * p / parts;
+                        long end = size * (p + 1) / parts;
+                        futures.add(pool.submit(() -> parseRange(channel, start, end)));
+                    }
+                    for (Future<EdgeBuffer> future : futures) buffers.add(await(future));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+            CSRGraph g = merge(buffers, vertices);
+            event.finish(g);
+            return g;
+        }
+    }
+
+    private static EdgeBuffer await(Future<EdgeBuffer> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading edge list", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    private static CSRGraph merge(List<EdgeBuffer> buffers, int vertices) {
+        long total = 0;
+        int maxId = -1;
+        for (EdgeBuffer b : buffers) {
+            total += b.size;
+            maxId = Math.max(maxId, b.maxId);
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges for an on-heap CSR graph: " + total);
+        }
+        int n = vertices >= 0 ? vertices : maxId + 1;
+        if (maxId >= n) {
+            throw new IllegalArgumentException("Vertex id " + maxId + " out of range for " + n + " vertices");
+        }
+
+        int m = (int) total;
+        int[] offsets = new int[n + 1];
+        for (EdgeBuffer b : buffers) {
+            for (int i = 0; i < b.size; i++) offsets[b.from[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+
+        int[] fill = Arrays.copyOf(offsets, n);
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        for (EdgeBuffer b : buffers) {
+            for (int i = 0; i < b.size; i++) {
+                int slot = fill[b.from[i]]++;
+                targets[slot] = b.to[i];
+                weights[slot] = b.weight[i];
+            }
+            b.release();
+        }
+        double[] vertexWeights = new double[n];
+        Arrays.fill(vertexWeights, 1.0);
+        return new CSRGraph(offsets, targets, weights, vertexWeights);
+    }
+
+    // parses every line whose first byte lies in [start, end), in place unless it straddles two reads
+    private static EdgeBuffer parseRange(FileChannel channel, long start, long end) throws IOException {
+        EdgeBuffer out = new EdgeBuffer((int) Math.min(1 << 20, (end - start) / 8 + 16));
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK);
+        byte[] bytes = buffer.array();
+        byte[] carry = new byte[256];
+        int carryLength = 0;
+        long lineStart = start;
+        long pos = start;
+        boolean skipping = false;
+
+        if (start > 0) {
+            ByteBuffer previous = ByteBuffer.allocate(1);
+            channel.read(previous, start - 1);
+            skipping = previous.get(0) != '\n';
+        }
+
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, pos);
+            if (read <= 0) break;
+            int lineBegin = 0;
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] != '\n') continue;
+                if (!skipping && carryLength > 0) {
+                    carry = append(carry, carryLength, bytes, lineBegin, i);
+                    parseLine(carry, 0, carryLength + i - lineBegin, lineStart, out);
+                } else if (!skipping) {
+                    parseLine(bytes, lineBegin, i, lineStart, out);
+                }
+                skipping = false;
+                carryLength = 0;
+                lineBegin = i + 1;
+                lineStart = pos + i + 1;
+                if (lineStart >= end) return out;
+            }
+            if (!skipping) {
+                carry = append(carry, carryLength, bytes, lineBegin, read);
+                carryLength += read - lineBegin;
+            }
+            pos += read;
+        }
+        if (!skipping && carryLength > 0) parseLine(carry, 0, carryLength, lineStart, out);
+        return out;
+    }
+
+    private static byte[] append(byte[] carry, int carryLength, byte[] bytes, int from, int to) {
+        int needed = carryLength + to - from;
+        if (needed > carry.length) carry = Arrays.copyOf(carry, Math.max(needed, carry.length * 2));
+        System.arraycopy(bytes, from, carry, carryLength, to - from);
+        return carry;
+    }
+
+    private static void parseLine(byte[] line, int start, int end, long offset, EdgeBuffer out) {
+        if (end > start && line[end - 1] == '\r') end--;
+        int i = skipBlanks(line, start, end);
+        if (i == end || line[i] == '#') return;
+        if (offset == 0 && !isDigit(line[i])) return; // header row
+
+        int fromStart = i;
+        long from = 0;
+        for (; i < end && isDigit(line[i]) && from <= Integer.MAX_VALUE; i++) from = from * 10 + (line[i] - '0');
+        if (i == fromStart) throw malformed(line, start, end, offset);
+        i = skipSeparator(line, i, start, end, offset);
+        int toStart = i;
+        long to = 0;
+        for (; i < end && isDigit(line[i]) && to <= Integer.MAX_VALUE; i++) to = to * 10 + (line[i] - '0');
+        if (i == toStart || from >= Integer.MAX_VALUE || to >= Integer.MAX_VALUE) {
+            throw malformed(line, start, end, offset);
+        }
+
+        double weight = 1.0;
+        if (skipBlanks(line, i, end) < end) {
+            i = skipSeparator(line, i, start, end, offset);
+            int last = end;
+            while (last > i && (line[last - 1] == ' ' || line[last - 1] == '\t')) last--;
+            weight = parseWeight(line, i, last, start, end, offset);
+        }
+        out.add((int) from, (int) to, weight);
+    }
+
+    // exact fast path for plain decimals (mantissa below 2^53, at most 22 fraction digits), else the JDK parser
+    private static double parseWeight(byte[] line, int from, int to, int start, int end, long offset) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (line[i] == '-' || line[i] == '+')) negative = line[i++] == '-';
+        long mantissa = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            byte b = line[i];
+            if (isDigit(b)) {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fraction) scale++;
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (i == to && digits > 0 && digits <= 15 && scale <= 22) {
+            double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+        try {
+            return Double.parseDouble(new String(line, from, to - from, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw malformed(line, start, end, offset);
+        }
+    }
+
+    // one of , ; or tab (with optional spaces around it), or a run of spaces
+    private static int skipSeparator(byte[] line, int i, int start, int end, long offset) {
+        int j = skipBlanks(line, i, end);
+        if (j < end && (line[j] == ',' || line[j] == '\t' || line[j] == ';')) return skipBlanks(line, j + 1, end);
+        if (j > i && j < end) return j;
+        throw malformed(line, start, end, offset);
+    }
+
+    private static int skipBlanks(byte[] line, int i, int end) {
+        while (i < end && line[i] == ' ') i++;
+        return i;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static IllegalArgumentException malformed(byte[] line, int start, int end, long offset) {
+        return new IllegalArgumentException("Malformed edge at byte " + offset + ": "
+                + new String(line, start, Math.min(end - start, 80), StandardCharsets.US_ASCII));
+    }
+
+    private static final class EdgeBuffer {
+        private int[] from;
+        private int[] to;
+        private double[] weight;
+        private int size;
+        private int maxId = -1;
+
+        EdgeBuffer(int capacity) {
+            from = new int[capacity];
+            to = new int[capacity];
+            weight = new double[capacity];
+        }
+
+        void add(int u, int v, double w) {
+            if (size == from.length) {
+                int capacity = (int) Math.min(Integer.MAX_VALUE - 8, size + (size >> 1) + 16L);
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+            }
+            from[size] = u;
+            to[size] = v;
+            weight[size] = w;
+            size++;
+            maxId = Math.max(maxId, Math.max(u, v));
+        }
+
+        void release() {
+            from = null;
+            to = null;
+            weight = null;
+        }
+    }
+}
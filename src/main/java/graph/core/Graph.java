@@ -1,10 +1,12 @@
 package graph.core;
 import java.util.*;
 
-public class Graph {
+public class Graph implements GraphView {
     private int numVertices;
+    private long numEdges;
     private Map<Integer, List<Edge>> adjList;
     private Map<Integer, Double> vertexWeights;
+    private CSRGraph reverseCache;
 
     public static class Edge {
         public int to;
@@ -27,16 +29,36 @@ public class Graph {
 
     public void addEdge(int from, int to, double weight) {
         adjList.get(from).add(new Edge(to, weight));
+        numEdges++;
+        reverseCache = null;
     }
 
     public void setVertexWeight(int vertex, double weight) {
         vertexWeights.put(vertex, weight);
+        reverseCache = null;
     }
 
     public int getNumVertices() { return numVertices; }
+    public long getNumEdges() { return numEdges; }
     public List<Edge> getAdjacent(int vertex) { return adjList.get(vertex); }
     public double getVertexWeight(int vertex) { return vertexWeights.get(vertex); }
 
+    public int getOutDegree(int vertex) { return adjList.get(vertex).size(); }
+    public int getEdgeTarget(int vertex, int index) { return adjList.get(vertex).get(index).to; }
+    public double getEdgeWeight(int vertex, int index) { return adjList.get(vertex).get(index).weight; }
+
+    public EdgeCursor newEdgeCursor() {
+        return new ListEdgeCursor();
+    }
+
+    // incoming CSR built once and reused until the graph is modified
+    public CSRGraph reverseView() {
+        if (reverseCache == null) {
+            reverseCache = CSRGraph.transpose(this);
+        }
+        return reverseCache;
+    }
+
     public Graph reverse() {
         Graph reversed = new Graph(numVertices);
         for (int v = 0; v < numVertices; v++) {
@@ -47,4 +69,24 @@ public class Graph {
         }
         return reversed;
     }
-}
\ No newline at end of file
+
+    private final class ListEdgeCursor implements EdgeCursor {
+        private List<Edge> edges = Collections.emptyList();
+        private int index;
+        private Edge current;
+
+        public void reset(int vertex) {
+            edges = adjList.get(vertex);
+            index = 0;
+        }
+
+        public boolean next() {
+            if (index == edges.size()) return false;
+            current = edges.get(index++);
+            return true;
+        }
+
+        public int target() { return current.to; }
+        public double weight() { return current.weight; }
+    }
+}
@@ -0,0 +1,168 @@
+package graph.core;
+
+import java.util.Arrays;
+
+/**
+ * Collects edges in flat primitive arrays and finalizes them into a CSRGraph with
+ * one counting sort by source. Edges are bounds-checked on insertion; parallel
+ * edges are kept or merged according to the {@link DuplicatePolicy}. Out-edges of
+ * a vertex keep their insertion order (first occurrence, for merged edges).
+ */
+public final class GraphBuilder {
+    public enum DuplicatePolicy { KEEP_ALL, FIRST, MIN, MAX, SUM }
+
+    private final int numVertices;
+    private final double[] vertexWeights;
+    private DuplicatePolicy policy = DuplicatePolicy.KEEP_ALL;
+    private int[] from;
+    private int[] to;
+    private double[] weight;
+    private int size;
+
+    public GraphBuilder(int vertices) {
+        this(vertices, 16);
+    }
+
+    public GraphBuilder(int vertices, int expectedEdges) {
+        if (vertices < 0) throw new IllegalArgumentException("Negative vertex count: " + vertices);
+        if (expectedEdges < 0) throw new IllegalArgumentException("Negative edge count hint: " + expectedEdges);
+        this.numVertices = vertices;
+        this.vertexWeights = new double[vertices];
+        Arrays.fill(vertexWeights, 1.0);
+        this.from = new int[expectedEdges];
+        this.to = new int[expectedEdges];
+        this.weight = new double[expectedEdges];
+    }
+
+    public GraphBuilder duplicatePolicy(DuplicatePolicy policy) {
+        this.policy = policy;
+        return this;
+    }
+
+    public GraphBuilder addEdge(int u, int v, double w) {
+        checkVertex(u);
+        checkVertex(v);
+        ensureCapacity(size + 1L);
+        from[size] = u;
+        to[size] = v;
+        weight[size] = w;
+        size++;
+        return this;
+    }
+
+    // weights may be null for unit weights
+    public GraphBuilder addEdges(int[] sources, int[] targets, double[] weights) {
+        if (targets.length != sources.length || (weights != null && weights.length != sources.length)) {
+            throw new IllegalArgumentException("Edge arrays differ in length: " + sources.length + ", "
+                    + targets.length + (weights != null ? ", " + weights.length : ""));
+        }
+        return addEdges(sources, targets, weights, sources.length);
+    }
+
+    // the first count entries of each array, e.g. of a partly filled buffer
+    public GraphBuilder addEdges(int[] sources, int[] targets, double[] weights, int count) {
+        if (count < 0 || count > sources.length || count > targets.length
+                || (weights != null && count > weights.length)) {
+            throw new IllegalArgumentException("Edge count " + count + " exceeds the given arrays");
+        }
+        for (int i = 0; i < count; i++) {
+            checkVertex(sources[i]);
+            checkVertex(targets[i]);
+        }
+        ensureCapacity((long) size + count);
+        System.arraycopy(sources, 0, from, size, count);
+        System.arraycopy(targets, 0, to, size, count);
+        if (weights != null) {
+            System.arraycopy(weights, 0, weight, size, count);
+        } else {
+            Arrays.fill(weight, size, size + count, 1.0);
+        }
+        size += count;
+        return this;
+    }
+
+    public GraphBuilder setVertexWeight(int vertex, double w) {
+        checkVertex(vertex);
+        vertexWeights[vertex] = w;
+        return this;
+    }
+
+    public int getNumVertices() { return numVertices; }
+    public int getEdgeCount() { return size; }
+    public DuplicatePolicy getDuplicatePolicy() { return policy; }
+
+    // the builder stays usable; later edges only show up in the next build()
+    public CSRGraph build() {
+        int n = numVertices;
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < size; i++) offsets[from[i] + 1]++;
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+
+        int[] fill = Arrays.copyOf(offsets, n);
+        int[] targets = new int[size];
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            int slot = fill[from[i]]++;
+            targets[slot] = to[i];
+            weights[slot] = weight[i];
+        }
+
+        int m = size;
+        if (policy != DuplicatePolicy.KEEP_ALL) m = mergeDuplicates(offsets, targets, weights);
+        if (m < size) {
+            targets = Arrays.copyOf(targets, m);
+            weights = Arrays.copyOf(weights, m);
+        }
+        return new CSRGraph(offsets, targets, weights, vertexWeights.clone());
+    }
+
+    // compacts each row in place; slotOf[t] is valid while stamp[t] == u + 1
+    private int mergeDuplicates(int[] offsets, int[] targets, double[] weights) {
+        int[] stamp = new int[numVertices];
+        int[] slotOf = new int[numVertices];
+        int write = 0;
+        for (int u = 0; u < numVertices; u++) {
+            int start = offsets[u];
+            int end = offsets[u + 1];
+            offsets[u] = write;
+            for (int i = start; i < end; i++) {
+                int t = targets[i];
+                double w = weights[i];
+                if (stamp[t] != u + 1) {
+                    stamp[t] = u + 1;
+                    slotOf[t] = write;
+                    targets[write] = t;
+                    weights[write] = w;
+                    write++;
+                    continue;
+                }
+                int slot = slotOf[t];
+                switch (policy) {
+                    case MIN: weights[slot] = Math.min(weights[slot], w); break;
+                    case MAX: weights[slot] = Math.max(weights[slot], w); break;
+                    case SUM: weights[slot] += w; break;
+                    default: break;
+                }
+            }
+        }
+        offsets[numVertices] = write;
+        return write;
+    }
+
+    private void ensureCapacity(long needed) {
+        if (needed <= from.length) return;
+        if (needed > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many edges for an on-heap CSR graph: " + needed);
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(needed, from.length + (from.length >> 1) + 16L));
+        from = Arrays.copyOf(from, capacity);
+        to = Arrays.copyOf(to, capacity);
+        weight = Arrays.copyOf(weight, capacity);
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("Vertex " + v + " out of range for " + numVertices + " vertices");
+        }
+    }
+}
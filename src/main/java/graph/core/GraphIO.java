@@ -0,0 +1,184 @@
+package graph.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Little-endian binary files for graphs and result arrays. Each file starts with
+ * a magic number, a type tag and the lengths, so a truncated or foreign file is
+ * rejected instead of misread. Writes go to a temporary file that is atomically
+ * renamed, so a crash never leaves a half-written file under the final name.
+ */
+public final class GraphIO {
+    private static final int MAGIC = 0x53434731; // "SCG1"
+    private static final int TYPE_GRAPH = 1;
+    private static final int TYPE_INTS = 2;
+    private static final int TYPE_DOUBLES = 3;
+    private static final int CHUNK = 1 << 20;
+
+    private GraphIO() {
+    }
+
+    public static void writeGraph(GraphView graph, Path file) throws IOException {
+        CSRGraph csr = graph instanceof CSRGraph ? (CSRGraph) graph : CSRGraph.copyOf(graph);
+        int n = csr.getNumVertices();
+        int m = (int) csr.getNumEdges();
+        Path tmp = tempFor(file);
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = newBuffer();
+            buffer.putInt(MAGIC).putInt(TYPE_GRAPH).putLong(n).putLong(m);
+            putInts(channel, buffer, csr.getOffsets(), n + 1);
+            putInts(channel, buffer, csr.getTargets(), m);
+            putDoubles(channel, buffer, csr.getWeights(), m);
+            putDoubles(channel, buffer, csr.getVertexWeights(), n);
+            drain(channel, buffer);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static CSRGraph readGraph(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = newBuffer();
+            long[] lengths = readHeader(channel, buffer, file, TYPE_GRAPH, 2);
+            int n = (int) lengths[0];
+            int m = (int) lengths[1];
+            int[] offsets = getInts(channel, buffer, new int[n + 1], file);
+            int[] targets = getInts(channel, buffer, new int[m], file);
+            double[] weights = getDoubles(channel, buffer, new double[m], file);
+            double[] vertexWeights = getDoubles(channel, buffer, new double[n], file);
+            if (offsets[n] != m) {
+                throw new IOException("Corrupt graph file (offsets do not end at m): " + file);
+            }
+            return new CSRGraph(offsets, targets, weights, vertexWeights);
+        }
+    }
+
+    public static void writeInts(int[] values, Path file) throws IOException {
+        Path tmp = tempFor(file);
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = newBuffer();
+            buffer.putInt(MAGIC).putInt(TYPE_INTS).putLong(values.length);
+            putInts(channel, buffer, values, values.length);
+            drain(channel, buffer);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static int[] readInts(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = newBuffer();
+            long[] lengths = readHeader(channel, buffer, file, TYPE_INTS, 1);
+            return getInts(channel, buffer, new int[(int) lengths[0]], file);
+        }
+    }
+
+    public static void writeDoubles(double[] values, Path file) throws IOException {
+        Path tmp = tempFor(file);
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = newBuffer();
+            buffer.putInt(MAGIC).putInt(TYPE_DOUBLES).putLong(values.length);
+            putDoubles(channel, buffer, values, values.length);
+            drain(channel, buffer);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static double[] readDoubles(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = newBuffer();
+            long[] lengths = readHeader(channel, buffer, file, TYPE_DOUBLES, 1);
+            return getDoubles(channel, buffer, new double[(int) lengths[0]], file);
+        }
+    }
+
+    private static ByteBuffer newBuffer() {
+        return ByteBuffer.allocateDirect(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static Path tempFor(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    private static long[] readHeader(FileChannel channel, ByteBuffer buffer, Path file, int type, int count)
+            throws IOException {
+        buffer.clear().limit(8 + 8 * count);
+        fill(channel, buffer, file);
+        if (buffer.getInt() != MAGIC || buffer.getInt() != type) {
+            throw new IOException("Not a graph checkpoint of the expected type: " + file);
+        }
+        long[] lengths = new long[count];
+        for (int i = 0; i < count; i++) {
+            lengths[i] = buffer.getLong();
+            if (lengths[i] < 0 || lengths[i] > Integer.MAX_VALUE - 8) {
+                throw new IOException("Corrupt length " + lengths[i] + " in " + file);
+            }
+        }
+        return lengths;
+    }
+
+    private static void putInts(FileChannel channel, ByteBuffer buffer, int[] values, int length) throws IOException {
+        for (int i = 0; i < length; ) {
+            if (buffer.remaining() < 4) drain(channel, buffer);
+            int count = Math.min(length - i, buffer.remaining() / 4);
+            buffer.asIntBuffer().put(values, i, count);
+            buffer.position(buffer.position() + 4 * count);
+            i += count;
+        }
+    }
+
+    private static void putDoubles(FileChannel channel, ByteBuffer buffer, double[] values, int length)
+            throws IOException {
+        for (int i = 0; i < length; ) {
+            if (buffer.remaining() < 8) drain(channel, buffer);
+            int count = Math.min(length - i, buffer.remaining() / 8);
+            buffer.asDoubleBuffer().put(values, i, count);
+            buffer.position(buffer.position() + 8 * count);
+            i += count;
+        }
+    }
+
+    private static int[] getInts(FileChannel channel, ByteBuffer buffer, int[] values, Path file) throws IOException {
+        for (int i = 0; i < values.length; ) {
+            int count = Math.min(values.length - i, CHUNK / 4);
+            buffer.clear().limit(4 * count);
+            fill(channel, buffer, file);
+            buffer.asIntBuffer().get(values, i, count);
+            i += count;
+        }
+        return values;
+    }
+
+    private static double[] getDoubles(FileChannel channel, ByteBuffer buffer, double[] values, Path file)
+            throws IOException {
+        for (int i = 0; i < values.length; ) {
+            int count = Math.min(values.length - i, CHUNK / 8);
+            buffer.clear().limit(8 * count);
+            fill(channel, buffer, file);
+            buffer.asDoubleBuffer().get(values, i, count);
+            i += count;
+        }
+        return values;
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    private static void fill(FileChannel channel, ByteBuffer buffer, Path file) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new IOException("Truncated checkpoint: " + file);
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,72 @@
+package graph.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for loading one dataset into a graph; disabled by
+ * default like {@link AlgorithmPhaseEvent}.
+ */
+@Name("smartcity.GraphLoad")
+@Label("Graph Load")
+@Category({"Smart City", "Graph Loading"})
+@Description("Source, format, size and allocation of one dataset load")
+@Enabled(false)
+@StackTrace(false)
+public class GraphLoadEvent extends Event {
+    @Label("Source")
+    String source;
+
+    @Label("Format")
+    String format;
+
+    @Label("File Size")
+    @DataAmount
+    long fileBytes;
+
+    @Label("Vertices")
+    int vertices;
+
+    @Label("Edges")
+    long edges;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    static GraphLoadEvent start(Path file, String format) {
+        GraphLoadEvent event = new GraphLoadEvent();
+        if (event.isEnabled()) {
+            event.source = file.toString();
+            event.format = format;
+            try {
+                event.fileBytes = Files.size(file);
+            } catch (IOException e) {
+                event.fileBytes = -1;
+            }
+            event.allocatedBytes = -AlgorithmPhaseEvent.threadAllocatedBytes();
+            event.begin();
+        }
+        return event;
+    }
+
+    void finish(GraphView graph) {
+        if (!isEnabled()) return;
+        end();
+        if (shouldCommit()) {
+            vertices = graph.getNumVertices();
+            edges = graph.getNumEdges();
+            allocatedBytes += AlgorithmPhaseEvent.threadAllocatedBytes();
+            commit();
+        }
+    }
+}
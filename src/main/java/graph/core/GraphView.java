@@ -0,0 +1,18 @@
+package graph.core;
+
+/**
+ * Read-only adjacency access shared by all graph backends. Neighbours are read
+ * either by index or through a reusable {@link EdgeCursor}, so traversals do
+ * not allocate per edge. {@link #reverseView()} exposes in-neighbours as an
+ * incoming CSR built once and cached by the backend.
+ */
+public interface GraphView {
+    int getNumVertices();
+    long getNumEdges();
+    int getOutDegree(int vertex);
+    int getEdgeTarget(int vertex, int index);
+    double getEdgeWeight(int vertex, int index);
+    double getVertexWeight(int vertex);
+    EdgeCursor newEdgeCursor();
+    GraphView reverseView();
+}
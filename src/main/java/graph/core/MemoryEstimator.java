@@ -0,0 +1,102 @@
+package graph.core;
+
+/**
+ * Estimated footprint of the graph structures and algorithm results, for sizing
+ * JVMs and for refusing inputs that cannot fit. Assumes a 64-bit JVM with
+ * compressed oops: 12-byte object headers, 4-byte references, 8-byte alignment,
+ * boxed Integers outside the small-value cache.
+ */
+public final class MemoryEstimator {
+    private static final long HEADER = 12;
+    private static final long REF = 4;
+    private static final long ARRAY_HEADER = 16;
+    private static final long BOXED = 16;
+    private static final long HASH_NODE = 32;
+    private static final long EDGE_OBJECT = 24;
+    private static final long ARRAY_LIST = 24;
+
+    private MemoryEstimator() {
+    }
+
+    // HashMap adjacency: per vertex a map node, key, ArrayList and weight entry; per edge an Edge object
+    public static long graphBytes(int vertices, long edges) {
+        long perVertex = 2 * (HASH_NODE + BOXED) + ARRAY_LIST + ARRAY_HEADER + BOXED;
+        // ArrayList starts at 10 slots on first add and grows by half
+        long edgeSlots = Math.max(edges + edges / 2, 10L * Math.min(vertices, edges));
+        return align(HEADER + 4 + 8 + 4 * REF) + 2 * hashTableBytes(vertices)
+                + vertices * perVertex + edges * EDGE_OBJECT + align(edgeSlots * REF);
+    }
+
+    // offsets, targets, weights and vertex weights; the cached reverse view costs the same again
+    public static long csrBytes(int vertices, long edges) {
+        return align(HEADER + 4 + 5 * REF)
+                + intArray(vertices + 1L) + intArray(edges) + doubleArray(edges) + doubleArray(vertices);
+    }
+
+    // native (direct or mapped) bytes of an OffHeapGraph; its heap part is negligible
+    public static long offHeapBytes(int vertices, long edges) {
+        return 8L * (vertices + 1) + 8L * vertices + 8L * edges + 4L * edges;
+    }
+
+    // peak of a Tarjan run: six int arrays and onStack, plus the retained component lists
+    public static long sccBytes(int vertices, int components) {
+        return 6 * intArray(vertices) + align(ARRAY_HEADER + vertices) + componentListBytes(vertices, components);
+    }
+
+    public static long condensationBytes(int components, long componentEdges) {
+        return graphBytes(components, componentEdges);
+    }
+
+    // the whole SmartCityScheduler pipeline in the worst case: every vertex its own component
+    public static long pipelineBytes(long graphBytes, int vertices, long edges) {
+        return graphBytes + sccBytes(vertices, vertices) + condensationBytes(vertices, edges)
+                + csrBytes(vertices, edges) + 3 * doubleArray(vertices) + 4 * intArray(vertices);
+    }
+
+    public static long onHeapBytes(GraphView graph) {
+        if (graph instanceof CSRGraph) return csrBytes(graph.getNumVertices(), graph.getNumEdges());
+        if (graph instanceof OffHeapGraph) return align(HEADER + 4 + 8 + 8 + 6 * REF);
+        return graphBytes(graph.getNumVertices(), graph.getNumEdges());
+    }
+
+    // accepts plain bytes or a k/m/g suffix, e.g. "512m"
+    public static long parseBytes(String text) {
+        String s = text.trim().toLowerCase();
+        if (s.isEmpty()) throw new IllegalArgumentException("Not a byte size: \"" + text + "\"");
+        long unit = 1;
+        char last = s.charAt(s.length() - 1);
+        if (last == 'k' || last == 'm' || last == 'g') {
+            unit = last == 'k' ? 1L << 10 : last == 'm' ? 1L << 20 : 1L << 30;
+            s = s.substring(0, s.length() - 1);
+        }
+        try {
+            return Math.multiplyExact(Long.parseLong(s), unit);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a byte size: " + text);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Byte size out of range: " + text);
+        }
+    }
+
+    public static String format(long bytes) {
+        if (bytes < 1L << 10) return bytes + " B";
+        if (bytes < 1L << 20) return String.format("%.1f KB", bytes / 1024.0);
+        if (bytes < 1L << 30) return String.format("%.1f MB", bytes / (1024.0 * 1024));
+        return String.format("%.2f GB", bytes / (1024.0 * 1024 * 1024));
+    }
+
+    private static long componentListBytes(int vertices, int components) {
+        long perComponent = align(HEADER + 4 + REF) + ARRAY_LIST + ARRAY_HEADER;
+        return align(ARRAY_LIST) + align(ARRAY_HEADER + components * REF)
+                + components * perComponent + vertices * (REF + BOXED);
+    }
+
+    private static long hashTableBytes(int entries) {
+        long capacity = Long.highestOneBit(Math.max(1, (long) (entries / 0.75)) * 2 - 1);
+        return align(HEADER + 6 * 4 + 3 * REF) + align(ARRAY_HEADER + capacity * REF);
+    }
+
+    private static long intArray(long length) { return align(ARRAY_HEADER + 4 * length); }
+    private static long doubleArray(long length) { return align(ARRAY_HEADER + 8 * length); }
+    private static long align(long bytes) { return (bytes + 7) & ~7L; }
+}
@@ -1,23 +1,38 @@
 package graph.core;
 
 public class Metrics {
+    private final LatencyHistogram histogram;
     private long dfsVisits = 0;
     private long edgesProcessed = 0;
     private long operationCount = 0;
     private long startTime = 0;
     private long endTime = 0;
 
+    public Metrics() {
+        this(null);
+    }
+
+    // every startTimer/stopTimer interval is also recorded in the histogram, which reset() leaves alone
+    public Metrics(LatencyHistogram histogram) {
+        this.histogram = histogram;
+    }
+
     public void recordDFSVisit() { dfsVisits++; }
     public void recordEdgeProcessed() { edgesProcessed++; }
     public void recordOperation() { operationCount++; }
+    public void addEdgesProcessed(long count) { edgesProcessed += count; }
 
     public void startTimer() { startTime = System.nanoTime(); }
-    public void stopTimer() { endTime = System.nanoTime(); }
+    public void stopTimer() {
+        endTime = System.nanoTime();
+        if (histogram != null) histogram.record(endTime - startTime);
+    }
 
     public long getDFSVisits() { return dfsVisits; }
     public long getEdgesProcessed() { return edgesProcessed; }
     public long getOperationCount() { return operationCount; }
     public double getExecutionTimeMillis() { return (endTime - startTime) / 1_000_000.0; }
+    public LatencyHistogram getHistogram() { return histogram; }
 
     public void reset() {
         dfsVisits = 0;
@@ -0,0 +1,321 @@
+package graph.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * CSR graph kept outside the Java heap, either in direct buffers or in a
+ * memory-mapped file. Mapped storage is not limited by -XX:MaxDirectMemorySize,
+ * so it is the mode to use for graphs larger than the heap.
+ * Edges must be added grouped by source vertex, then {@link #seal()} called.
+ *
+ * A mapped file starts with a header (magic, n, edge capacity, edge count,
+ * sealed flag), so a sealed graph can be reopened with {@link #open(Path)}
+ * instead of rebuilt. The reverse of a mapped graph is mapped too, into a
+ * sibling file. {@link #close()} frees or unmaps the buffers right away; the
+ * graph and its cached reverse must not be used afterwards.
+ */
+public class OffHeapGraph implements GraphView, AutoCloseable {
+    private static final int MAGIC = 0x4F484731; // "OHG1"
+    private static final int HEADER_BYTES = 32;
+
+    private final int numVertices;
+    private final long edgeCapacity;
+    private final PagedBuffer offsets;
+    private final PagedBuffer vertexWeights;
+    private final PagedBuffer edgeWeights;
+    private final PagedBuffer targets;
+    private final Path file;
+    private final MappedByteBuffer header;
+
+    private int currentRow = -1;
+    private long numEdges = 0;
+    private boolean sealed = false;
+    private boolean closed = false;
+    private OffHeapGraph reverseCache;
+    private boolean derived; // built by reverseView() of the graph in reverseCache
+
+    private OffHeapGraph(int numVertices, long edgeCapacity, PagedBuffer offsets, PagedBuffer vertexWeights,
+                         PagedBuffer edgeWeights, PagedBuffer targets, Path file, MappedByteBuffer header) {
+        this.numVertices = numVertices;
+        this.edgeCapacity = edgeCapacity;
+        this.offsets = offsets;
+        this.vertexWeights = vertexWeights;
+        this.edgeWeights = edgeWeights;
+        this.targets = targets;
+        this.file = file;
+        this.header = header;
+    }
+
+    public static OffHeapGraph allocate(int vertices, long edges) {
+        return allocate(vertices, edges, PagedBuffer.DEFAULT_PAGE_SHIFT);
+    }
+
+    static OffHeapGraph allocate(int vertices, long edges, int pageShift) {
+        checkSize(vertices, edges);
+        OffHeapGraph graph = new OffHeapGraph(vertices, edges,
+                PagedBuffer.allocateDirect(8L * (vertices + 1), pageShift),
+                PagedBuffer.allocateDirect(8L * vertices, pageShift),
+                PagedBuffer.allocateDirect(8L * edges, pageShift),
+                PagedBuffer.allocateDirect(4L * edges, pageShift), null, null);
+        graph.initVertexWeights();
+        return graph;
+    }
+
+    // creates (or truncates) the file; use open() to reuse a graph sealed earlier
+    public static OffHeapGraph map(Path file, int vertices, long edges) throws IOException {
+        return map(file, vertices, edges, PagedBuffer.DEFAULT_PAGE_SHIFT);
+    }
+
+    static OffHeapGraph map(Path file, int vertices, long edges, int pageShift) throws IOException {
+        checkSize(vertices, edges);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            OffHeapGraph graph = mapRegions(channel, file, vertices, edges, pageShift);
+            graph.header.putInt(0, MAGIC).putInt(4, vertices).putLong(8, edges).putLong(16, 0).putInt(24, 0);
+            graph.initVertexWeights();
+            return graph;
+        }
+    }
+
+    public static OffHeapGraph open(Path file) throws IOException {
+        return open(file, PagedBuffer.DEFAULT_PAGE_SHIFT);
+    }
+
+    static OffHeapGraph open(Path file, int pageShift) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer head = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.nativeOrder());
+            while (head.hasRemaining() && channel.read(head) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            if (head.hasRemaining() || head.getInt(0) != MAGIC) {
+                throw new IOException("Not an off-heap graph file: " + file);
+            }
+            int vertices = head.getInt(4);
+            long capacity = head.getLong(8);
+            long edges = head.getLong(16);
+            if (head.getInt(24) != 1) throw new IOException("Off-heap graph was never sealed: " + file);
+            if (vertices < 0 || capacity < 0 || edges < 0 || edges > capacity
+                    || channel.size() < HEADER_BYTES + 16L * (vertices + 1) + 12L * capacity - 8) {
+                throw new IOException("Corrupt off-heap graph header: " + file);
+            }
+            OffHeapGraph graph = mapRegions(channel, file, vertices, capacity, pageShift);
+            graph.numEdges = edges;
+            graph.currentRow = vertices;
+            graph.sealed = true;
+            return graph;
+        }
+    }
+
+    // the mappings stay valid after the channel is closed
+    private static OffHeapGraph mapRegions(FileChannel channel, Path file, int vertices, long edges, int pageShift)
+            throws IOException {
+        long offsetsBytes = 8L * (vertices + 1);
+        long vertexBytes = 8L * vertices;
+        long weightBytes = 8L * edges;
+        long targetBytes = 4L * edges;
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.nativeOrder());
+        long pos = HEADER_BYTES;
+        PagedBuffer offsets = PagedBuffer.map(channel, pos, offsetsBytes, pageShift);
+        pos += offsetsBytes;
+        PagedBuffer vertexWeights = PagedBuffer.map(channel, pos, vertexBytes, pageShift);
+        pos += vertexBytes;
+        PagedBuffer edgeWeights = PagedBuffer.map(channel, pos, weightBytes, pageShift);
+        pos += weightBytes;
+        PagedBuffer targets = PagedBuffer.map(channel, pos, targetBytes, pageShift);
+        return new OffHeapGraph(vertices, edges, offsets, vertexWeights, edgeWeights, targets, file, header);
+    }
+
+    private void initVertexWeights() {
+        for (int v = 0; v < numVertices; v++) {
+            vertexWeights.putDouble(v, 1.0);
+        }
+    }
+
+    public static OffHeapGraph copyOf(GraphView source) {
+        OffHeapGraph copy = allocate(source.getNumVertices(), source.getNumEdges());
+        copy.fillFrom(source);
+        return copy;
+    }
+
+    public static OffHeapGraph copyOf(GraphView source, Path file) throws IOException {
+        OffHeapGraph copy = map(file, source.getNumVertices(), source.getNumEdges());
+        copy.fillFrom(source);
+        return copy;
+    }
+
+    private static void checkSize(int vertices, long edges) {
+        if (vertices < 0 || edges < 0) {
+            throw new IllegalArgumentException("Negative graph size: n=" + vertices + ", m=" + edges);
+        }
+    }
+
+    private void fillFrom(GraphView source) {
+        EdgeCursor cursor = source.newEdgeCursor();
+        for (int v = 0; v < numVertices; v++) {
+            vertexWeights.putDouble(v, source.getVertexWeight(v));
+            cursor.reset(v);
+            while (cursor.next()) {
+                addEdge(v, cursor.target(), cursor.weight());
+            }
+        }
+        seal();
+    }
+
+    public void addEdge(int from, int to, double weight) {
+        if (sealed) {
+            throw new IllegalStateException("Graph is sealed");
+        }
+        if (from < currentRow) {
+            throw new IllegalStateException("Edges must be added grouped by source vertex: " + from + " after " + currentRow);
+        }
+        if (from >= numVertices || to < 0 || to >= numVertices) {
+            throw new IllegalArgumentException("Edge out of range: " + from + " -> " + to);
+        }
+        if (numEdges == edgeCapacity) {
+            throw new IllegalStateException("Edge capacity exceeded: " + edgeCapacity);
+        }
+        while (currentRow < from) {
+            currentRow++;
+            offsets.putLong(currentRow, numEdges);
+        }
+        targets.putInt(numEdges, to);
+        edgeWeights.putDouble(numEdges, weight);
+        numEdges++;
+    }
+
+    public void seal() {
+        if (sealed) return;
+        while (currentRow < numVertices) {
+            currentRow++;
+            offsets.putLong(currentRow, numEdges);
+        }
+        sealed = true;
+        if (header != null) header.putLong(16, numEdges).putInt(24, 1);
+    }
+
+    // a reverse view built from this graph holds the old weight, so it is closed and rebuilt on demand
+    public void setVertexWeight(int vertex, double weight) {
+        vertexWeights.putDouble(vertex, weight);
+        if (reverseCache != null) {
+            OffHeapGraph stale = reverseCache;
+            reverseCache = null;
+            stale.reverseCache = null;
+            if (stale.derived) stale.close();
+        }
+    }
+
+    public boolean isMapped() { return file != null; }
+    public int getNumVertices() { return numVertices; }
+    public long getNumEdges() { return numEdges; }
+    public int getOutDegree(int vertex) { return (int) (offsets.getLong(vertex + 1) - offsets.getLong(vertex)); }
+    public int getEdgeTarget(int vertex, int index) { return targets.getInt(offsets.getLong(vertex) + index); }
+    public double getEdgeWeight(int vertex, int index) { return edgeWeights.getDouble(offsets.getLong(vertex) + index); }
+    public double getVertexWeight(int vertex) { return vertexWeights.getDouble(vertex); }
+
+    public EdgeCursor newEdgeCursor() {
+        return new BufferEdgeCursor();
+    }
+
+    public OffHeapGraph reverseView() {
+        if (!sealed) {
+            throw new IllegalStateException("Graph must be sealed before it can be reversed");
+        }
+        if (reverseCache == null) {
+            reverseCache = reverse();
+            reverseCache.reverseCache = this;
+            reverseCache.derived = true;
+        }
+        return reverseCache;
+    }
+
+    // a mapped graph is reversed into "<file>.reverse", with the fill cursors in an unlinked scratch mapping;
+    // that file cannot be rewritten while the cached reverseView() still maps it
+    public OffHeapGraph reverse() {
+        if (file == null) return reverseInto(allocate(numVertices, numEdges),
+                PagedBuffer.allocateDirect(8L * (numVertices + 1), PagedBuffer.DEFAULT_PAGE_SHIFT));
+        Path target = file.resolveSibling(file.getFileName() + ".reverse");
+        if (reverseCache != null && target.equals(reverseCache.file)) {
+            throw new IllegalStateException("The reverse of " + file + " is mapped by reverseView(); use that instead");
+        }
+        try {
+            OffHeapGraph reversed = map(target, numVertices, numEdges);
+            Path scratch = file.resolveSibling(file.getFileName() + ".reverse.next");
+            try (FileChannel channel = FileChannel.open(scratch, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE)) {
+                return reverseInto(reversed, PagedBuffer.map(channel, 0, 8L * (numVertices + 1),
+                        PagedBuffer.DEFAULT_PAGE_SHIFT));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map the reverse of " + file, e);
+        }
+    }
+
+    private OffHeapGraph reverseInto(OffHeapGraph reversed, PagedBuffer next) {
+
+        for (long i = 0; i < numEdges; i++) {
+            long slot = targets.getInt(i) + 1;
+            next.putLong(slot, next.getLong(slot) + 1);
+        }
+        for (int v = 0; v < numVertices; v++) {
+            next.putLong(v + 1, next.getLong(v + 1) + next.getLong(v));
+            reversed.offsets.putLong(v, next.getLong(v));
+            reversed.vertexWeights.putDouble(v, vertexWeights.getDouble(v));
+        }
+        reversed.offsets.putLong(numVertices, numEdges);
+
+        for (int v = 0; v < numVertices; v++) {
+            long end = offsets.getLong(v + 1);
+            for (long i = offsets.getLong(v); i < end; i++) {
+                int to = targets.getInt(i);
+                long slot = next.getLong(to);
+                next.putLong(to, slot + 1);
+                reversed.targets.putInt(slot, v);
+                reversed.edgeWeights.putDouble(slot, edgeWeights.getDouble(i));
+            }
+        }
+
+        next.release();
+        reversed.numEdges = numEdges;
+        reversed.currentRow = numVertices - 1;
+        reversed.seal();
+        return reversed;
+    }
+
+    // also closes the cached reverse; mapped data is flushed to the file first
+    public void close() {
+        if (closed) return;
+        closed = true;
+        for (PagedBuffer buffer : new PagedBuffer[]{offsets, vertexWeights, edgeWeights, targets}) {
+            buffer.force();
+            buffer.release();
+        }
+        if (header != null) {
+            header.force();
+            PagedBuffer.free(header);
+        }
+        if (reverseCache != null) reverseCache.close();
+    }
+
+    private final class BufferEdgeCursor implements EdgeCursor {
+        private long pos;
+        private long end;
+
+        public void reset(int vertex) {
+            pos = offsets.getLong(vertex) - 1;
+            end = offsets.getLong(vertex + 1);
+        }
+
+        public boolean next() { return ++pos < end; }
+        public int target() { return targets.getInt(pos); }
+        public double weight() { return edgeWeights.getDouble(pos); }
+    }
+}
@@ -0,0 +1,144 @@
+package graph.core;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Long-addressed view over a sequence of direct or memory-mapped byte buffers.
+ * A single ByteBuffer is limited to 2 GB, so storage is split into fixed-size
+ * pages. Callers store one primitive type per buffer, aligned to its size,
+ * which keeps every element inside a single page.
+ * {@link #release()} frees direct memory and unmaps files right away instead of
+ * waiting for the buffers to be garbage collected.
+ */
+final class PagedBuffer {
+    static final int DEFAULT_PAGE_SHIFT = 30;
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // no cleaner access: released buffers are left to the garbage collector
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final ByteBuffer[] pages;
+    private final int pageShift;
+    private final long pageMask;
+    private final long capacity;
+
+    private PagedBuffer(ByteBuffer[] pages, int pageShift, long capacity) {
+        this.pages = pages;
+        this.pageShift = pageShift;
+        this.pageMask = (1L << pageShift) - 1;
+        this.capacity = capacity;
+    }
+
+    static PagedBuffer allocateDirect(long bytes, int pageShift) {
+        ByteBuffer[] pages = new ByteBuffer[pageCount(bytes, pageShift)];
+        long pageSize = 1L << pageShift;
+        for (int i = 0; i < pages.length; i++) {
+            long size = Math.min(pageSize, bytes - i * pageSize);
+            pages[i] = ByteBuffer.allocateDirect((int) size).order(ByteOrder.nativeOrder());
+        }
+        return new PagedBuffer(pages, pageShift, bytes);
+    }
+
+    static PagedBuffer map(FileChannel channel, long position, long bytes, int pageShift) throws IOException {
+        ByteBuffer[] pages = new ByteBuffer[pageCount(bytes, pageShift)];
+        long pageSize = 1L << pageShift;
+        for (int i = 0; i < pages.length; i++) {
+            long size = Math.min(pageSize, bytes - i * pageSize);
+            pages[i] = channel.map(FileChannel.MapMode.READ_WRITE, position + i * pageSize, size)
+                    .order(ByteOrder.nativeOrder());
+        }
+        return new PagedBuffer(pages, pageShift, bytes);
+    }
+
+    private static int pageCount(long bytes, int pageShift) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Negative buffer size: " + bytes);
+        }
+        if (pageShift < 3 || pageShift > 30) {
+            throw new IllegalArgumentException("Page shift out of range: " + pageShift);
+        }
+        long count = (bytes + (1L << pageShift) - 1) >>> pageShift;
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many pages for " + bytes + " bytes");
+        }
+        return (int) count;
+    }
+
+    long capacity() { return capacity; }
+
+    // writes dirty pages of a mapped buffer back to the file; no-op for direct buffers
+    void force() {
+        for (ByteBuffer page : pages) {
+            if (page instanceof MappedByteBuffer) ((MappedByteBuffer) page).force();
+        }
+    }
+
+    // frees or unmaps every page; later accesses fail with a NullPointerException instead of touching freed memory
+    void release() {
+        for (int i = 0; i < pages.length; i++) {
+            ByteBuffer page = pages[i];
+            pages[i] = null;
+            if (page != null) free(page);
+        }
+    }
+
+    // frees a direct or mapped buffer that is no longer referenced anywhere else
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // leave this buffer to the garbage collector
+        }
+    }
+
+    int getInt(long index) {
+        long pos = index << 2;
+        return pages[(int) (pos >>> pageShift)].getInt((int) (pos & pageMask));
+    }
+
+    void putInt(long index, int value) {
+        long pos = index << 2;
+        pages[(int) (pos >>> pageShift)].putInt((int) (pos & pageMask), value);
+    }
+
+    long getLong(long index) {
+        long pos = index << 3;
+        return pages[(int) (pos >>> pageShift)].getLong((int) (pos & pageMask));
+    }
+
+    void putLong(long index, long value) {
+        long pos = index << 3;
+        pages[(int) (pos >>> pageShift)].putLong((int) (pos & pageMask), value);
+    }
+
+    double getDouble(long index) {
+        long pos = index << 3;
+        return pages[(int) (pos >>> pageShift)].getDouble((int) (pos & pageMask));
+    }
+
+    void putDouble(long index, double value) {
+        long pos = index << 3;
+        pages[(int) (pos >>> pageShift)].putDouble((int) (pos & pageMask), value);
+    }
+}
@@ -0,0 +1,166 @@
+package graph.dagsp;
+
+import graph.core.GraphView;
+import graph.core.Metrics;
+import graph.topo.TopoSortKahn;
+import graph.util.IntDoubleHeap;
+import java.util.*;
+
+/**
+ * K shortest or K longest source paths in a DAG, with the same length model as
+ * {@link DAGShortestPaths} and {@link DAGLongestPath}. Each vertex keeps its K best
+ * candidates in flat arrays. In topological order it pulls them from its
+ * in-neighbours (via the reverse view) with a K-way merge, which costs
+ * O(E + V * K log d) overall instead of enumerating paths.
+ */
+public class DAGKBestPaths {
+    public enum Objective { SHORTEST, LONGEST }
+
+    private final GraphView graph;
+    private final int k;
+    private final Objective objective;
+    private final Metrics metrics;
+    private double[] value;
+    private int[] predVertex;
+    private int[] predRank;
+    private int[] count;
+
+    public DAGKBestPaths(GraphView graph, int k, Objective objective) {
+        if (k < 1) {
+            throw new IllegalArgumentException("K must be positive: " + k);
+        }
+        if ((long) graph.getNumVertices() * k > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("V * K too large: " + graph.getNumVertices() + " * " + k);
+        }
+        this.graph = graph;
+        this.k = k;
+        this.objective = objective;
+        this.metrics = new Metrics();
+    }
+
+    public void compute(int source) {
+        int n = graph.getNumVertices();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("Source index out of range: " + source);
+        }
+
+        metrics.reset();
+        metrics.startTimer();
+
+        TopoSortKahn sorter = new TopoSortKahn(graph);
+        if (!sorter.computeTopologicalOrder()) {
+            throw new IllegalStateException("K-best paths require a DAG");
+        }
+        int[] topoOrder = sorter.getTopologicalOrderArray();
+        GraphView incoming = graph.reverseView();
+
+        value = new double[n * k];
+        predVertex = new int[n * k];
+        predRank = new int[n * k];
+        count = new int[n];
+        double sign = objective == Objective.SHORTEST ? 1.0 : -1.0;
+
+        int[] pointer = new int[16];
+        IntDoubleHeap heap = new IntDoubleHeap(16);
+
+        for (int v : topoOrder) {
+            metrics.recordOperation();
+            int base = v * k;
+            if (v == source) {
+                value[base] = graph.getVertexWeight(v);
+                predVertex[base] = -1;
+                predRank[base] = -1;
+                count[v] = 1;
+                continue;
+            }
+
+            int degree = incoming.getOutDegree(v);
+            if (pointer.length < degree) pointer = new int[Math.max(degree, pointer.length * 2)];
+            heap.clear();
+            double vertexWeight = graph.getVertexWeight(v);
+
+            for (int i = 0; i < degree; i++) {
+                metrics.recordEdgeProcessed();
+                int u = incoming.getEdgeTarget(v, i);
+                pointer[i] = 0;
+                if (count[u] > 0) {
+                    double candidate = value[u * k] + incoming.getEdgeWeight(v, i) + vertexWeight;
+                    heap.push(i, sign * candidate);
+                }
+            }
+
+            int filled = 0;
+            while (filled < k && !heap.isEmpty()) {
+                double key = heap.peekKey();
+                int i = heap.pop();
+                int u = incoming.getEdgeTarget(v, i);
+                value[base + filled] = sign * key;
+                predVertex[base + filled] = u;
+                predRank[base + filled] = pointer[i];
+                filled++;
+
+                if (++pointer[i] < count[u]) {
+                    double candidate = value[u * k + pointer[i]] + incoming.getEdgeWeight(v, i) + vertexWeight;
+                    heap.push(i, sign * candidate);
+                }
+            }
+            count[v] = filled;
+        }
+
+        metrics.stopTimer();
+    }
+
+    public List<PathResult> getPaths(int destination) {
+        checkComputed();
+        if (destination < 0 || destination >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Destination index out of range: " + destination);
+        }
+        List<PathResult> paths = new ArrayList<>(count[destination]);
+        for (int r = 0; r < count[destination]; r++) {
+            paths.add(reconstruct(destination, r));
+        }
+        return paths;
+    }
+
+    // best K paths from the source over all sinks, e.g. the critical and near-critical paths
+    public List<PathResult> getTopPaths() {
+        checkComputed();
+        double sign = objective == Objective.SHORTEST ? 1.0 : -1.0;
+        IntDoubleHeap heap = new IntDoubleHeap(64);
+        for (int v = 0; v < graph.getNumVertices(); v++) {
+            if (graph.getOutDegree(v) != 0) continue;
+            for (int r = 0; r < count[v]; r++) {
+                heap.push(v * k + r, sign * value[v * k + r]);
+            }
+        }
+
+        List<PathResult> paths = new ArrayList<>(k);
+        while (paths.size() < k && !heap.isEmpty()) {
+            int slot = heap.pop();
+            paths.add(reconstruct(slot / k, slot % k));
+        }
+        return paths;
+    }
+
+    private PathResult reconstruct(int vertex, int rank) {
+        List<Integer> path = new ArrayList<>();
+        double length = value[vertex * k + rank];
+        while (vertex != -1) {
+            path.add(vertex);
+            int slot = vertex * k + rank;
+            vertex = predVertex[slot];
+            rank = predRank[slot];
+        }
+        Collections.reverse(path);
+        return new PathResult(path, length);
+    }
+
+    private void checkComputed() {
+        if (value == null) {
+            throw new IllegalStateException("Call compute(...) before reading paths.");
+        }
+    }
+
+    public int getK() { return k; }
+    public Metrics getMetrics() { return metrics; }
+}
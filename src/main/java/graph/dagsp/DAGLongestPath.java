@@ -1,22 +1,35 @@
 package graph.dagsp;
-import graph.core.Graph;
+import graph.core.AlgorithmPhaseEvent;
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.LatencyHistogram;
 import graph.core.Metrics;
 import graph.topo.TopoSortKahn;
 import java.util.*;
 
 public class DAGLongestPath {
-    private Graph graph;
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+
+    private GraphView graph;
     private Metrics metrics;
     private double[] longest;
     private int[] predecessor;
     private int source;
 
-    public DAGLongestPath(Graph graph) {
+    public DAGLongestPath(GraphView graph) {
         this.graph = graph;
-        this.metrics = new Metrics();
+        this.metrics = new Metrics(LATENCY);
     }
 
     public void computeLongestPaths(int source) {
+        TopoSortKahn sorter = new TopoSortKahn(graph);
+        sorter.computeTopologicalOrder();
+        computeLongestPaths(source, sorter.getTopologicalOrderArray());
+    }
+
+    // reuses a topological order computed (or restored) by the caller
+    public void computeLongestPaths(int source, int[] topoOrder) {
+        AlgorithmPhaseEvent event = AlgorithmPhaseEvent.start("DAGLongestPath", "computeLongestPaths", graph);
         metrics.reset();
         metrics.startTimer();
 
@@ -29,28 +42,50 @@ public class DAGLongestPath {
         Arrays.fill(predecessor, -1);
         longest[source] = graph.getVertexWeight(source);
 
-        TopoSortKahn sorter = new TopoSortKahn(graph);
-        sorter.computeTopologicalOrder();
-        List<Integer> topoOrder = sorter.getTopologicalOrder();
+        EdgeCursor cursor = graph.newEdgeCursor();
 
         for (int u : topoOrder) {
             if (longest[u] != Double.NEGATIVE_INFINITY) {
-                for (Graph.Edge edge : graph.getAdjacent(u)) {
+                cursor.reset(u);
+                while (cursor.next()) {
                     metrics.recordEdgeProcessed();
                     metrics.recordOperation();
 
-                    double newDist = longest[u] + edge.weight + graph.getVertexWeight(edge.to);
-                    if (newDist > longest[edge.to]) {
-                        longest[edge.to] = newDist;
-                        predecessor[edge.to] = u;
+                    int to = cursor.target();
+                    double newDist = longest[u] + cursor.weight() + graph.getVertexWeight(to);
+                    if (newDist > longest[to]) {
+                        longest[to] = newDist;
+                        predecessor[to] = u;
                     }
                 }
             }
         }
 
         metrics.stopTimer();
+        event.finish(metrics);
     }
 
+    // longest path starting at each vertex (its own weight included), i.e. the bottom level
+    public double[] computeTailLengths() {
+        TopoSortKahn sorter = new TopoSortKahn(graph);
+        if (!sorter.computeTopologicalOrder()) {
+            throw new IllegalStateException("Tail lengths require a DAG");
+        }
+        int[] topoOrder = sorter.getTopologicalOrderArray();
+        double[] tail = new double[graph.getNumVertices()];
+        EdgeCursor cursor = graph.newEdgeCursor();
+
+        for (int i = topoOrder.length - 1; i >= 0; i--) {
+            int u = topoOrder[i];
+            double best = 0.0;
+            cursor.reset(u);
+            while (cursor.next()) {
+                best = Math.max(best, cursor.weight() + tail[cursor.target()]);
+            }
+            tail[u] = graph.getVertexWeight(u) + best;
+        }
+        return tail;
+    }
 
     public PathResult reconstructPath(int destination) {
         List<Integer> path = new ArrayList<>();
@@ -63,5 +98,7 @@ public class DAGLongestPath {
     }
 
     public double[] getLongestPaths() { return longest; }
+    public int[] getPredecessors() { return predecessor; }
     public Metrics getMetrics() { return metrics; }
+    public static LatencyHistogram getLatencyHistogram() { return LATENCY; }
 }
@@ -1,22 +1,49 @@
 package graph.dagsp;
 
-import graph.core.Graph;
+import graph.core.AlgorithmPhaseEvent;
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.LatencyHistogram;
 import graph.core.Metrics;
 import graph.topo.TopoSortKahn;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 public class DAGShortestPaths {
-    private final Graph graph;
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+    // point-to-point queries touch a small region, so they get their own distribution
+    private static final LatencyHistogram QUERY_LATENCY = new LatencyHistogram();
+
+    // levels narrower than this are relaxed on the calling thread
+    private static final int PARALLEL_LEVEL_WIDTH = 2048;
+
+    private final GraphView graph;
     private final Metrics metrics;
+    private final Metrics queryMetrics;
     private double[] distances;
     private int[] predecessor;
     private int source;
+    private int numLevelsComputed;
+
+    // point-to-point state, built on the first query; the graph must not change afterwards
+    private int[] topoOrder;
+    private int[] topoPosition;
+    private int[] visitStamp;
+    private double[] queryDist;
+    private int[] queryPred;
+    private int stamp;
+    private int cachedTarget = -1;
+    private int cachedBound;
+    private int[] cachedRegion;
 
-    public DAGShortestPaths(Graph graph) {
+    public DAGShortestPaths(GraphView graph) {
         this.graph = graph;
-        this.metrics = new Metrics();
+        this.metrics = new Metrics(LATENCY);
+        this.queryMetrics = new Metrics(QUERY_LATENCY);
     }
 
     public void computeShortestPaths(int source) {
@@ -24,6 +51,7 @@ public class DAGShortestPaths {
             throw new IllegalArgumentException("Source index out of range: " + source);
         }
 
+        AlgorithmPhaseEvent event = AlgorithmPhaseEvent.start("DAGShortestPaths", "computeShortestPaths", graph);
         metrics.reset();
         metrics.startTimer();
 
@@ -38,25 +66,253 @@ public class DAGShortestPaths {
 
         TopoSortKahn sorter = new TopoSortKahn(graph);
         sorter.computeTopologicalOrder();
-        List<Integer> topoOrder = sorter.getTopologicalOrder();
+        int[] topoOrder = sorter.getTopologicalOrderArray();
+        EdgeCursor cursor = graph.newEdgeCursor();
 
         for (int u : topoOrder) {
             metrics.recordOperation();
             if (distances[u] != Double.POSITIVE_INFINITY) {
-                for (Graph.Edge edge : graph.getAdjacent(u)) {
+                cursor.reset(u);
+                while (cursor.next()) {
                     metrics.recordEdgeProcessed();
                     metrics.recordOperation();
 
-                    double newDist = distances[u] + edge.weight + graph.getVertexWeight(edge.to);
-                    if (newDist < distances[edge.to]) {
-                        distances[edge.to] = newDist;
-                        predecessor[edge.to] = u;
+                    int to = cursor.target();
+                    double newDist = distances[u] + cursor.weight() + graph.getVertexWeight(to);
+                    if (newDist < distances[to]) {
+                        distances[to] = newDist;
+                        predecessor[to] = u;
                     }
                 }
             }
         }
 
         metrics.stopTimer();
+        event.finish(metrics);
+    }
+
+    /*
+     * Level-synchronous variant: every vertex pulls from its in-neighbours (reverse
+     * view), and all vertices of one topological level are relaxed concurrently.
+     * Each vertex writes only its own slots, so no atomics are needed. Ties go to
+     * the in-neighbour earliest in Kahn order, which is the one the sequential
+     * relaxation keeps, so distances and predecessors are identical.
+     */
+    public void computeShortestPathsParallel(int source, int threads) {
+        if (source < 0 || source >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Source index out of range: " + source);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required: " + threads);
+        }
+
+        AlgorithmPhaseEvent event = AlgorithmPhaseEvent.start("DAGShortestPaths", "computeShortestPathsParallel", graph);
+        metrics.reset();
+        metrics.startTimer();
+
+        this.source = source;
+        int n = graph.getNumVertices();
+        distances = new double[n];
+        predecessor = new int[n];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessor, -1);
+        distances[source] = graph.getVertexWeight(source);
+
+        TopoSortKahn sorter = new TopoSortKahn(graph);
+        if (!sorter.computeTopologicalOrder()) {
+            throw new IllegalStateException("Parallel shortest paths require a DAG");
+        }
+        int[] topoOrder = sorter.getTopologicalOrderArray();
+        GraphView incoming = graph.reverseView();
+
+        int[] topoPosition = new int[n];
+        int[] level = new int[n];
+        int numLevels = 0;
+        for (int i = 0; i < n; i++) {
+            int v = topoOrder[i];
+            topoPosition[v] = i;
+            int lv = 0;
+            for (int e = 0; e < incoming.getOutDegree(v); e++) {
+                lv = Math.max(lv, level[incoming.getEdgeTarget(v, e)] + 1);
+            }
+            level[v] = lv;
+            numLevels = Math.max(numLevels, lv + 1);
+        }
+
+        int[] levelStart = new int[numLevels + 1];
+        for (int v = 0; v < n; v++) levelStart[level[v] + 1]++;
+        for (int l = 0; l < numLevels; l++) levelStart[l + 1] += levelStart[l];
+        int[] byLevel = new int[n];
+        int[] fill = Arrays.copyOf(levelStart, numLevels);
+        for (int v : topoOrder) byLevel[fill[level[v]]++] = v;
+
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        try {
+            for (int l = 0; l < numLevels; l++) {
+                metrics.recordOperation();
+                int from = levelStart[l];
+                int to = levelStart[l + 1];
+                if (pool == null || to - from < PARALLEL_LEVEL_WIDTH) {
+                    for (int i = from; i < to; i++) pull(byLevel[i], incoming, topoPosition);
+                } else {
+                    pool.submit(() -> IntStream.range(from, to).parallel()
+                            .forEach(i -> pull(byLevel[i], incoming, topoPosition))).join();
+                }
+            }
+        } finally {
+            if (pool != null) pool.shutdown();
+        }
+        metrics.addEdgesProcessed(graph.getNumEdges());
+        numLevelsComputed = numLevels;
+
+        metrics.stopTimer();
+        event.finish(metrics);
+    }
+
+    /*
+     * Point-to-point query. Only vertices between source and target in topological
+     * order can lie on a path, and only those that reach the target matter: a
+     * backward BFS from the target over the reverse view, cut off below the
+     * source's position, finds that region, and the forward relaxation touches
+     * nothing else. The region is cached per target, so repeated queries to the
+     * same target from later sources skip the BFS. Relaxation follows Kahn order
+     * with strict improvement, so the result equals computeShortestPaths + reconstructPath.
+     */
+    public PathResult shortestPath(int source, int target) {
+        int n = graph.getNumVertices();
+        if (source < 0 || source >= n || target < 0 || target >= n) {
+            throw new IllegalArgumentException("Query vertex out of range: " + source + " -> " + target);
+        }
+
+        AlgorithmPhaseEvent event = AlgorithmPhaseEvent.start("DAGShortestPaths", "shortestPath", graph);
+        queryMetrics.reset();
+        queryMetrics.startTimer();
+
+        prepareQueries();
+        PathResult result = query(source, target);
+
+        queryMetrics.stopTimer();
+        event.finish(queryMetrics);
+        return result;
+    }
+
+    private void prepareQueries() {
+        if (topoOrder != null) return;
+        int n = graph.getNumVertices();
+        TopoSortKahn sorter = new TopoSortKahn(graph);
+        if (!sorter.computeTopologicalOrder()) {
+            throw new IllegalStateException("Point-to-point queries require a DAG");
+        }
+        topoOrder = sorter.getTopologicalOrderArray();
+        topoPosition = new int[n];
+        for (int i = 0; i < n; i++) topoPosition[topoOrder[i]] = i;
+        visitStamp = new int[n];
+        queryDist = new double[n];
+        queryPred = new int[n];
+    }
+
+    private PathResult query(int source, int target) {
+        int from = topoPosition[source];
+        if (from > topoPosition[target]) return unreachable(target);
+
+        int[] region = regionReaching(target, from);
+        int start = Arrays.binarySearch(region, from);
+        if (start < 0) return unreachable(target);
+
+        int mark = nextStamp();
+        for (int i = start; i < region.length; i++) {
+            int v = topoOrder[region[i]];
+            visitStamp[v] = mark;
+            queryDist[v] = Double.POSITIVE_INFINITY;
+            queryPred[v] = -1;
+        }
+        queryDist[source] = graph.getVertexWeight(source);
+
+        EdgeCursor cursor = graph.newEdgeCursor();
+        for (int i = start; i < region.length; i++) {
+            int u = topoOrder[region[i]];
+            queryMetrics.recordOperation();
+            if (queryDist[u] == Double.POSITIVE_INFINITY) continue;
+            cursor.reset(u);
+            while (cursor.next()) {
+                queryMetrics.recordEdgeProcessed();
+                int to = cursor.target();
+                if (visitStamp[to] != mark) continue;
+                double newDist = queryDist[u] + cursor.weight() + graph.getVertexWeight(to);
+                if (newDist < queryDist[to]) {
+                    queryDist[to] = newDist;
+                    queryPred[to] = u;
+                }
+            }
+        }
+
+        List<Integer> path = new ArrayList<>();
+        for (int v = target; v != -1; v = v == source ? -1 : queryPred[v]) path.add(v);
+        Collections.reverse(path);
+        return new PathResult(path, queryDist[target]);
+    }
+
+    // sorted topological positions, all >= bound, of the vertices that reach target
+    private int[] regionReaching(int target, int bound) {
+        if (target == cachedTarget && bound >= cachedBound) return cachedRegion;
+
+        GraphView incoming = graph.reverseView();
+        int mark = nextStamp();
+        int[] queue = new int[16];
+        int tail = 0;
+        queue[tail++] = target;
+        visitStamp[target] = mark;
+        for (int head = 0; head < tail; head++) {
+            int v = queue[head];
+            for (int e = 0; e < incoming.getOutDegree(v); e++) {
+                queryMetrics.recordEdgeProcessed();
+                int u = incoming.getEdgeTarget(v, e);
+                if (visitStamp[u] == mark || topoPosition[u] < bound) continue;
+                visitStamp[u] = mark;
+                if (tail == queue.length) queue = Arrays.copyOf(queue, tail * 2);
+                queue[tail++] = u;
+            }
+        }
+
+        int[] region = new int[tail];
+        for (int i = 0; i < tail; i++) region[i] = topoPosition[queue[i]];
+        Arrays.sort(region);
+        cachedTarget = target;
+        cachedBound = bound;
+        cachedRegion = region;
+        return region;
+    }
+
+    private int nextStamp() {
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(visitStamp, 0);
+            stamp = 0;
+        }
+        return ++stamp;
+    }
+
+    private PathResult unreachable(int target) {
+        return new PathResult(new ArrayList<>(List.of(target)), Double.POSITIVE_INFINITY);
+    }
+
+    private void pull(int v, GraphView incoming, int[] topoPosition) {
+        if (v == source) return;
+        double best = Double.POSITIVE_INFINITY;
+        int bestPred = -1;
+        double vertexWeight = graph.getVertexWeight(v);
+        for (int e = 0; e < incoming.getOutDegree(v); e++) {
+            int u = incoming.getEdgeTarget(v, e);
+            if (distances[u] == Double.POSITIVE_INFINITY) continue;
+            double newDist = distances[u] + incoming.getEdgeWeight(v, e) + vertexWeight;
+            if (newDist < best || (newDist == best && bestPred >= 0 && topoPosition[u] < topoPosition[bestPred])) {
+                best = newDist;
+                bestPred = u;
+            }
+        }
+        if (bestPred != -1) {
+            distances[v] = best;
+            predecessor[v] = bestPred;
+        }
     }
 
     public PathResult reconstructPath(int destination) {
@@ -87,4 +343,11 @@ public class DAGShortestPaths {
     public double[] getDistances() {
         return distances;
     }
+
+    public int[] getPredecessors() { return predecessor; }
+    public int getNumLevels() { return numLevelsComputed; }
+    public Metrics getMetrics() { return metrics; }
+    public Metrics getQueryMetrics() { return queryMetrics; }
+    public static LatencyHistogram getLatencyHistogram() { return LATENCY; }
+    public static LatencyHistogram getQueryLatencyHistogram() { return QUERY_LATENCY; }
 }
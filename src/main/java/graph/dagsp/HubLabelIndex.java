@@ -0,0 +1,375 @@
+package graph.dagsp;
+
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.Metrics;
+import graph.topo.TopoSortKahn;
+import graph.util.IntDoubleHeap;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Pruned hub labeling (Akiba, Iwata, Yoshida) for exact DAG distances, in the metric
+ * of {@link DAGShortestPaths}: edge weights plus the weight of every vertex on the
+ * path. Each vertex keeps an out-label (hubs it reaches) and an in-label (hubs that
+ * reach it), both sorted by hub rank, so a query is one merge of two short arrays
+ * and touches no graph edges.
+ *
+ * Hubs are taken in decreasing (in+1)*(out+1) order. The forward and backward
+ * search from each hub visits vertices in topological order rather than by
+ * distance, so negative weights are fine, and stops at every vertex whose
+ * distance the labels built so far already give. The index is tied to the graph
+ * it was built from by a fingerprint; see {@link #loadOrBuild}.
+ */
+public class HubLabelIndex {
+    private static final int MAGIC = 0x48554231; // "HUB1"
+
+    private final int numVertices;
+    private final long fingerprint;
+    private final double[] vertexWeights;
+    private final int[] outOffsets;
+    private final int[] outHubs;
+    private final double[] outDist;
+    private final int[] inOffsets;
+    private final int[] inHubs;
+    private final double[] inDist;
+    private final Metrics metrics;
+    private final double buildMillis;
+
+    public HubLabelIndex(GraphView dag) {
+        metrics = new Metrics();
+        metrics.startTimer();
+
+        numVertices = dag.getNumVertices();
+        int n = numVertices;
+        TopoSortKahn sorter = new TopoSortKahn(dag);
+        if (!sorter.computeTopologicalOrder()) {
+            throw new IllegalArgumentException("Hub labels require a DAG");
+        }
+        int[] position = new int[n];
+        int[] order = sorter.getTopologicalOrderArray();
+        for (int i = 0; i < n; i++) position[order[i]] = i;
+
+        GraphView incoming = dag.reverseView();
+        vertexWeights = new double[n];
+        for (int v = 0; v < n; v++) vertexWeights[v] = dag.getVertexWeight(v);
+        int[] byRank = rankByDegree(dag, incoming);
+
+        Labels out = new Labels(n);
+        Labels in = new Labels(n);
+        Search search = new Search(n);
+        double[] hubDist = new double[n];
+        Arrays.fill(hubDist, Double.POSITIVE_INFINITY);
+
+        for (int rank = 0; rank < n; rank++) {
+            int hub = byRank[rank];
+            // forward: hub reaches v; the pruning test pairs hub's out-label with v's in-label
+            out.load(hub, hubDist);
+            search.run(dag, vertexWeights, hub, rank, position, hubDist, in, false);
+            out.unload(hub, hubDist);
+            // backward: v reaches hub, over the reverse view in decreasing topological order
+            in.load(hub, hubDist);
+            search.run(incoming, vertexWeights, hub, rank, position, hubDist, out, true);
+            in.unload(hub, hubDist);
+        }
+        metrics.addEdgesProcessed(search.edges);
+
+        outOffsets = out.offsets();
+        outHubs = out.flatHubs(outOffsets);
+        outDist = out.flatDist(outOffsets);
+        inOffsets = in.offsets();
+        inHubs = in.flatHubs(inOffsets);
+        inDist = in.flatDist(inOffsets);
+        fingerprint = fingerprint(dag);
+
+        metrics.stopTimer();
+        buildMillis = metrics.getExecutionTimeMillis();
+    }
+
+    private HubLabelIndex(int numVertices, long fingerprint, double buildMillis, double[] vertexWeights,
+                          int[] outOffsets, int[] outHubs, double[] outDist,
+                          int[] inOffsets, int[] inHubs, double[] inDist) {
+        this.numVertices = numVertices;
+        this.fingerprint = fingerprint;
+        this.buildMillis = buildMillis;
+        this.vertexWeights = vertexWeights;
+        this.outOffsets = outOffsets;
+        this.outHubs = outHubs;
+        this.outDist = outDist;
+        this.inOffsets = inOffsets;
+        this.inHubs = inHubs;
+        this.inDist = inDist;
+        this.metrics = new Metrics();
+    }
+
+    // same value as DAGShortestPaths from source, at target; +infinity when target is unreachable
+    public double distance(int source, int target) {
+        if (source < 0 || source >= numVertices || target < 0 || target >= numVertices) {
+            throw new IllegalArgumentException("Query vertex out of range: " + source + " -> " + target);
+        }
+        int i = outOffsets[source];
+        int iEnd = outOffsets[source + 1];
+        int j = inOffsets[target];
+        int jEnd = inOffsets[target + 1];
+        double best = Double.POSITIVE_INFINITY;
+        while (i < iEnd && j < jEnd) {
+            int a = outHubs[i];
+            int b = inHubs[j];
+            if (a == b) {
+                best = Math.min(best, outDist[i++] + inDist[j++]);
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return best == Double.POSITIVE_INFINITY ? best : vertexWeights[source] + best;
+    }
+
+    public boolean matches(GraphView graph) {
+        return graph.getNumVertices() == numVertices && fingerprint(graph) == fingerprint;
+    }
+
+    public int getNumVertices() { return numVertices; }
+    public long getLabelEntries() { return outHubs.length + (long) inHubs.length; }
+    public double getAverageLabelSize() { return numVertices == 0 ? 0.0 : getLabelEntries() / (2.0 * numVertices); }
+    public long getMemoryBytes() { return 12L * getLabelEntries() + 8L * (numVertices + 1) + 8L * numVertices; }
+    public double getBuildMillis() { return buildMillis; }
+    public Metrics getMetrics() { return metrics; }
+
+    // reuses the file when it was built from this very graph, otherwise (stale or unreadable) rebuilds it
+    public static HubLabelIndex loadOrBuild(Path file, GraphView dag) throws IOException {
+        if (Files.isRegularFile(file)) {
+            try {
+                HubLabelIndex index = load(file);
+                if (index.matches(dag)) return index;
+            } catch (IOException unreadable) {
+                // fall through and overwrite it
+            }
+        }
+        HubLabelIndex index = new HubLabelIndex(dag);
+        index.save(file);
+        return index;
+    }
+
+    public void save(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(numVertices);
+            out.writeLong(fingerprint);
+            out.writeDouble(buildMillis);
+            writeDoubles(out, vertexWeights);
+            writeInts(out, outOffsets);
+            writeInts(out, outHubs);
+            writeDoubles(out, outDist);
+            writeInts(out, inOffsets);
+            writeInts(out, inHubs);
+            writeDoubles(out, inDist);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static HubLabelIndex load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a hub label index: " + file);
+            int n = in.readInt();
+            long fingerprint = in.readLong();
+            double buildMillis = in.readDouble();
+            double[] vertexWeights = readDoubles(in);
+            int[] outOffsets = readInts(in);
+            int[] outHubs = readInts(in);
+            double[] outDist = readDoubles(in);
+            int[] inOffsets = readInts(in);
+            int[] inHubs = readInts(in);
+            double[] inDist = readDoubles(in);
+            if (vertexWeights.length != n || outOffsets.length != n + 1 || inOffsets.length != n + 1
+                    || outOffsets[n] != outHubs.length || inOffsets[n] != inHubs.length) {
+                throw new IOException("Corrupt hub label index: " + file);
+            }
+            return new HubLabelIndex(n, fingerprint, buildMillis, vertexWeights,
+                    outOffsets, outHubs, outDist, inOffsets, inHubs, inDist);
+        } catch (EOFException e) {
+            throw new IOException("Truncated hub label index: " + file, e);
+        }
+    }
+
+    // hash of the vertex weights and every edge in cursor order
+    public static long fingerprint(GraphView graph) {
+        long h = 0xcbf29ce484222325L;
+        EdgeCursor cursor = graph.newEdgeCursor();
+        for (int v = 0; v < graph.getNumVertices(); v++) {
+            h = mix(h, Double.doubleToLongBits(graph.getVertexWeight(v)));
+            cursor.reset(v);
+            while (cursor.next()) {
+                h = mix(h, cursor.target());
+                h = mix(h, Double.doubleToLongBits(cursor.weight()));
+            }
+            h = mix(h, -1);
+        }
+        return h;
+    }
+
+    private static long mix(long h, long value) {
+        h ^= value;
+        h *= 0x100000001b3L;
+        return h ^ (h >>> 29);
+    }
+
+    // vertex ids by decreasing (in+1)*(out+1), ties by id
+    private static int[] rankByDegree(GraphView dag, GraphView incoming) {
+        int n = dag.getNumVertices();
+        long[] packed = new long[n];
+        for (int v = 0; v < n; v++) {
+            long score = Math.min((dag.getOutDegree(v) + 1L) * (incoming.getOutDegree(v) + 1L), Integer.MAX_VALUE);
+            packed[v] = ((Integer.MAX_VALUE - score) << 32) | v;
+        }
+        Arrays.sort(packed);
+        int[] byRank = new int[n];
+        for (int r = 0; r < n; r++) byRank[r] = (int) packed[r];
+        return byRank;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int v : values) out.writeInt(v);
+    }
+
+    private static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+        out.writeInt(values.length);
+        for (double v : values) out.writeDouble(v);
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[checkedLength(in.readInt())];
+        for (int i = 0; i < values.length; i++) values[i] = in.readInt();
+        return values;
+    }
+
+    private static double[] readDoubles(DataInputStream in) throws IOException {
+        double[] values = new double[checkedLength(in.readInt())];
+        for (int i = 0; i < values.length; i++) values[i] = in.readDouble();
+        return values;
+    }
+
+    private static int checkedLength(int length) throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE - 8) throw new IOException("Corrupt array length " + length);
+        return length;
+    }
+
+    // one pruned search from a hub; vertices pop in topological order (direction 1) or its reverse (-1)
+    private static final class Search {
+        final double[] dist;
+        final int[] seen;
+        final IntDoubleHeap heap;
+        int stamp;
+        long edges;
+
+        Search(int n) {
+            dist = new double[n];
+            seen = new int[n];
+            heap = new IntDoubleHeap(64);
+        }
+
+        void run(GraphView graph, double[] vertexWeights, int hub, int rank, int[] position, double[] hubDist,
+                 Labels labels, boolean backward) {
+            int direction = backward ? -1 : 1;
+            stamp++;
+            seen[hub] = stamp;
+            dist[hub] = 0.0;
+            heap.push(hub, direction * position[hub]);
+            EdgeCursor cursor = graph.newEdgeCursor();
+            while (!heap.isEmpty()) {
+                int v = heap.pop();
+                double d = dist[v];
+                if (labels.covers(v, d, hubDist)) continue;
+                labels.add(v, rank, d);
+
+                cursor.reset(v);
+                while (cursor.next()) {
+                    edges++;
+                    int u = cursor.target();
+                    // the edge enters u going forward, and v going backward
+                    double next = d + cursor.weight() + vertexWeights[backward ? v : u];
+                    if (seen[u] != stamp) {
+                        seen[u] = stamp;
+                        dist[u] = next;
+                        heap.push(u, direction * position[u]);
+                    } else if (next < dist[u]) {
+                        dist[u] = next;
+                    }
+                }
+            }
+        }
+    }
+
+    // growable per-vertex labels, appended in hub-rank order so each stays sorted
+    private static final class Labels {
+        final int[][] hubs;
+        final double[][] dists;
+        final int[] sizes;
+
+        Labels(int n) {
+            hubs = new int[n][];
+            dists = new double[n][];
+            sizes = new int[n];
+        }
+
+        void add(int v, int hub, double d) {
+            int size = sizes[v];
+            if (hubs[v] == null) {
+                hubs[v] = new int[4];
+                dists[v] = new double[4];
+            } else if (size == hubs[v].length) {
+                hubs[v] = Arrays.copyOf(hubs[v], size * 2);
+                dists[v] = Arrays.copyOf(dists[v], size * 2);
+            }
+            hubs[v][size] = hub;
+            dists[v][size] = d;
+            sizes[v] = size + 1;
+        }
+
+        // true when the labels so far already give a distance <= d through some earlier hub
+        boolean covers(int v, double d, double[] hubDist) {
+            for (int k = 0; k < sizes[v]; k++) {
+                if (hubDist[hubs[v][k]] + dists[v][k] <= d) return true;
+            }
+            return false;
+        }
+
+        void load(int v, double[] hubDist) {
+            for (int k = 0; k < sizes[v]; k++) hubDist[hubs[v][k]] = dists[v][k];
+        }
+
+        void unload(int v, double[] hubDist) {
+            for (int k = 0; k < sizes[v]; k++) hubDist[hubs[v][k]] = Double.POSITIVE_INFINITY;
+        }
+
+        int[] offsets() {
+            int[] offsets = new int[sizes.length + 1];
+            for (int v = 0; v < sizes.length; v++) offsets[v + 1] = Math.addExact(offsets[v], sizes[v]);
+            return offsets;
+        }
+
+        int[] flatHubs(int[] offsets) {
+            int[] flat = new int[offsets[sizes.length]];
+            for (int v = 0; v < sizes.length; v++) {
+                if (sizes[v] > 0) System.arraycopy(hubs[v], 0, flat, offsets[v], sizes[v]);
+                hubs[v] = null;
+            }
+            return flat;
+        }
+
+        double[] flatDist(int[] offsets) {
+            double[] flat = new double[offsets[sizes.length]];
+            for (int v = 0; v < sizes.length; v++) {
+                if (sizes[v] > 0) System.arraycopy(dists[v], 0, flat, offsets[v], sizes[v]);
+                dists[v] = null;
+            }
+            return flat;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package graph.partition;
+
+import graph.core.EdgeCursor;
+import graph.core.GraphBuilder;
+import graph.core.GraphIO;
+import graph.core.GraphView;
+import graph.core.Metrics;
+import graph.scc.Component;
+import graph.scc.TarjanSCC;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Splits a graph into shards along the topological levels of its SCC
+ * condensation. A component's level is the length of the longest condensation
+ * path reaching it; consecutive levels go to the same shard until the shard
+ * holds its share of vertices plus edges. Components are never split, and every
+ * edge between shards points from a lower shard to a higher one, so the shards
+ * can be processed in order with only the boundary edges carried forward. A
+ * single level larger than a shard's share stays whole, so fewer shards than
+ * requested may come out.
+ *
+ * {@link #write(Path)} stores each shard as a local CSR graph plus its global
+ * vertex ids and outgoing boundary edges, in {@link GraphIO} files that
+ * {@link ShardWorker} processes read.
+ */
+public class GraphPartition {
+    static final String MANIFEST = "partition.manifest";
+
+    private final GraphView graph;
+    private final int[] shardOf;
+    private final int numShards;
+    private final int numLevels;
+    private final long boundaryEdges;
+    private final Metrics metrics;
+
+    private GraphPartition(GraphView graph, int[] shardOf, int numShards, int numLevels, long boundaryEdges,
+                           Metrics metrics) {
+        this.graph = graph;
+        this.shardOf = shardOf;
+        this.numShards = numShards;
+        this.numLevels = numLevels;
+        this.boundaryEdges = boundaryEdges;
+        this.metrics = metrics;
+    }
+
+    public static GraphPartition byLevels(GraphView graph, int shards) {
+        if (shards < 1) throw new IllegalArgumentException("At least one shard is required: " + shards);
+        Metrics metrics = new Metrics();
+        metrics.startTimer();
+
+        TarjanSCC scc = new TarjanSCC(graph);
+        scc.detectSCCs();
+        int[] componentId = scc.getComponentIds();
+        List<Component> components = scc.getComponents();
+
+        // ids are reverse-topological, so descending ids visit every component after its predecessors
+        int[] level = new int[components.size()];
+        int numLevels = 0;
+        EdgeCursor cursor = graph.newEdgeCursor();
+        for (int c = components.size() - 1; c >= 0; c--) {
+            numLevels = Math.max(numLevels, level[c] + 1);
+            for (int u : components.get(c).getVertices()) {
+                cursor.reset(u);
+                while (cursor.next()) {
+                    int d = componentId[cursor.target()];
+                    if (d != c) level[d] = Math.max(level[d], level[c] + 1);
+                }
+                metrics.recordDFSVisit();
+            }
+        }
+
+        int n = graph.getNumVertices();
+        long[] levelCost = new long[numLevels];
+        long total = 0;
+        for (int v = 0; v < n; v++) {
+            long cost = 1L + graph.getOutDegree(v);
+            levelCost[level[componentId[v]]] += cost;
+            total += cost;
+        }
+        int[] shardOfLevel = new int[numLevels];
+        int used = 0;
+        int last = -1;
+        long before = 0;
+        for (int l = 0; l < numLevels; l++) {
+            int target = (int) Math.min(shards - 1, before * shards / Math.max(1, total));
+            if (target != last) {
+                last = target;
+                used++;
+            }
+            shardOfLevel[l] = used - 1;
+            before += levelCost[l];
+        }
+
+        int[] shardOf = new int[n];
+        long boundary = 0;
+        for (int v = 0; v < n; v++) shardOf[v] = shardOfLevel[level[componentId[v]]];
+        for (int u = 0; u < n; u++) {
+            cursor.reset(u);
+            while (cursor.next()) {
+                if (shardOf[cursor.target()] != shardOf[u]) boundary++;
+            }
+        }
+        metrics.addEdgesProcessed(2 * graph.getNumEdges());
+
+        metrics.stopTimer();
+        return new GraphPartition(graph, shardOf, used, numLevels, boundary, metrics);
+    }
+
+    public void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        int n = graph.getNumVertices();
+        int[] shardSize = new int[numShards];
+        int[] boundarySize = new int[numShards];
+        int[] localId = new int[n];
+        EdgeCursor cursor = graph.newEdgeCursor();
+        for (int v = 0; v < n; v++) {
+            localId[v] = shardSize[shardOf[v]]++;
+            cursor.reset(v);
+            while (cursor.next()) {
+                if (shardOf[cursor.target()] != shardOf[v]) boundarySize[shardOf[v]]++;
+            }
+        }
+
+        int[][] members = new int[numShards][];
+        for (int s = 0; s < numShards; s++) members[s] = new int[shardSize[s]];
+        for (int v = 0; v < n; v++) members[shardOf[v]][localId[v]] = v;
+
+        for (int s = 0; s < numShards; s++) {
+            int[] ids = members[s];
+            GraphBuilder builder = new GraphBuilder(ids.length);
+            // (local source, global target) pairs
+            int[] boundary = new int[2 * boundarySize[s]];
+            double[] lags = new double[boundarySize[s]];
+            int b = 0;
+            for (int i = 0; i < ids.length; i++) {
+                builder.setVertexWeight(i, graph.getVertexWeight(ids[i]));
+                cursor.reset(ids[i]);
+                while (cursor.next()) {
+                    int t = cursor.target();
+                    if (shardOf[t] == s) {
+                        builder.addEdge(i, localId[t], cursor.weight());
+                    } else {
+                        boundary[2 * b] = i;
+                        boundary[2 * b + 1] = t;
+                        lags[b++] = cursor.weight();
+                    }
+                }
+            }
+            GraphIO.writeGraph(builder.build(), file(dir, s, "graph"));
+            GraphIO.writeInts(ids, file(dir, s, "ids"));
+            GraphIO.writeInts(boundary, file(dir, s, "boundary"));
+            GraphIO.writeDoubles(lags, file(dir, s, "lags"));
+        }
+        // written last: a directory without a manifest is an incomplete partition
+        GraphIO.writeInts(new int[]{n, numShards}, dir.resolve(MANIFEST));
+    }
+
+    static Path file(Path dir, int shard, String kind) {
+        return dir.resolve("shard-" + shard + "." + kind);
+    }
+
+    public int getShardOf(int vertex) { return shardOf[vertex]; }
+    public int getNumShards() { return numShards; }
+    public int getNumLevels() { return numLevels; }
+    public long getBoundaryEdges() { return boundaryEdges; }
+    public Metrics getMetrics() { return metrics; }
+
+    public int getShardSize(int shard) {
+        int size = 0;
+        for (int s : shardOf) if (s == shard) size++;
+        return size;
+    }
+}
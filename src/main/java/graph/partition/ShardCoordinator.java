@@ -0,0 +1,188 @@
+package graph.partition;
+
+import graph.core.EdgeListLoader;
+import graph.core.GraphIO;
+import graph.core.GraphView;
+import graph.core.Metrics;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a written {@link GraphPartition} through one {@link ShardWorker} process
+ * per shard and stitches the results. Shards run in order: before each launch
+ * the release times carried over the boundary edges of earlier shards are
+ * written for it, and afterwards its finish times are pushed across its own
+ * boundary edges. The coordinator holds a few arrays per vertex but never the
+ * edges, so only one shard's edges are in memory at a time.
+ *
+ * Local component ids are shifted so that later shards get lower ids; since no
+ * component spans shards and boundary edges only point forward, the stitched
+ * ids keep the reverse-topological numbering of {@link graph.scc.SCCAlgorithm}.
+ * Any worker failure (non-zero exit, timeout, interruption, missing or
+ * malformed result files) surfaces from {@link #run()} as an IOException
+ * naming the shard's log file where one exists.
+ */
+public class ShardCoordinator {
+    private final Path dir;
+    private final Metrics metrics;
+    private String workerHeap;
+    private long timeoutMillis = TimeUnit.MINUTES.toMillis(30);
+
+    public ShardCoordinator(Path dir) {
+        this.dir = dir;
+        this.metrics = new Metrics();
+    }
+
+    // passed to each worker as -Xmx, e.g. "512m"; null keeps the JVM default
+    public ShardCoordinator workerHeap(String heap) {
+        this.workerHeap = heap;
+        return this;
+    }
+
+    public ShardCoordinator timeoutMillis(long millis) {
+        if (millis <= 0) throw new IllegalArgumentException("Timeout must be positive: " + millis);
+        this.timeoutMillis = millis;
+        return this;
+    }
+
+    public Result run() throws IOException {
+        metrics.reset();
+        metrics.startTimer();
+
+        int[] manifest = GraphIO.readInts(dir.resolve(GraphPartition.MANIFEST));
+        int n = manifest[0];
+        int shards = manifest[1];
+        double[] release = new double[n];
+        double[] finish = new double[n];
+        int[] componentId = new int[n];
+        int[] shardOf = new int[n];
+        int[] componentCount = new int[shards];
+        double[] workerMillis = new double[shards];
+
+        for (int s = 0; s < shards; s++) {
+            int[] ids = GraphIO.readInts(GraphPartition.file(dir, s, "ids"));
+            double[] local = new double[ids.length];
+            for (int i = 0; i < ids.length; i++) local[i] = release[ids[i]];
+            GraphIO.writeDoubles(local, GraphPartition.file(dir, s, "release"));
+
+            long start = System.nanoTime();
+            launch(s);
+            workerMillis[s] = (System.nanoTime() - start) / 1_000_000.0;
+
+            int[] components = GraphIO.readInts(GraphPartition.file(dir, s, "components"));
+            double[] localFinish = GraphIO.readDoubles(GraphPartition.file(dir, s, "finish"));
+            if (components.length != ids.length || localFinish.length != ids.length) {
+                throw new IOException("Shard " + s + " returned results for the wrong number of vertices");
+            }
+            for (int i = 0; i < ids.length; i++) {
+                componentId[ids[i]] = components[i];
+                finish[ids[i]] = localFinish[i];
+                shardOf[ids[i]] = s;
+                componentCount[s] = Math.max(componentCount[s], components[i] + 1);
+            }
+
+            int[] boundary = GraphIO.readInts(GraphPartition.file(dir, s, "boundary"));
+            double[] lags = GraphIO.readDoubles(GraphPartition.file(dir, s, "lags"));
+            for (int b = 0; b < lags.length; b++) {
+                int target = boundary[2 * b + 1];
+                release[target] = Math.max(release[target], localFinish[boundary[2 * b]] + lags[b]);
+                metrics.recordEdgeProcessed();
+            }
+        }
+
+        int[] offset = new int[shards];
+        int total = 0;
+        for (int s = shards - 1; s >= 0; s--) {
+            offset[s] = total;
+            total += componentCount[s];
+        }
+        for (int v = 0; v < n; v++) componentId[v] += offset[shardOf[v]];
+
+        metrics.stopTimer();
+        return new Result(componentId, total, finish, workerMillis);
+    }
+
+    private void launch(int shard) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (workerHeap != null) command.add("-Xmx" + workerHeap);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ShardWorker.class.getName());
+        command.add(dir.toString());
+        command.add(Integer.toString(shard));
+
+        Path log = GraphPartition.file(dir, shard, "log");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            if (!process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("Shard worker " + shard + " timed out, see " + log);
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for shard worker " + shard + ", see " + log, e);
+        }
+        if (process.exitValue() != 0) {
+            throw new IOException("Shard worker " + shard + " exited with " + process.exitValue() + ", see " + log);
+        }
+    }
+
+    public Metrics getMetrics() { return metrics; }
+
+    // partition <graph file> <dir> <shards>  |  run <dir> [worker heap]
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 4 && args[0].equals("partition")) {
+            Path file = Paths.get(args[1]);
+            GraphView g = EdgeListLoader.isEdgeList(file.getFileName().toString())
+                    ? EdgeListLoader.load(file) : GraphIO.readGraph(file);
+            GraphPartition partition = GraphPartition.byLevels(g, Integer.parseInt(args[3]));
+            partition.write(Paths.get(args[2]));
+            System.out.println(String.format("%d shards over %d levels, %d boundary edges, %.1f ms",
+                    partition.getNumShards(), partition.getNumLevels(), partition.getBoundaryEdges(),
+                    partition.getMetrics().getExecutionTimeMillis()));
+        } else if (args.length >= 2 && args[0].equals("run")) {
+            ShardCoordinator coordinator = new ShardCoordinator(Paths.get(args[1]));
+            if (args.length > 2) coordinator.workerHeap(args[2]);
+            Result result = coordinator.run();
+            System.out.println(String.format("%d SCCs, makespan %.2f, %.1f ms", result.getNumComponents(),
+                    result.getMakespan(), coordinator.getMetrics().getExecutionTimeMillis()));
+        } else {
+            System.err.println("Usage: ShardCoordinator partition <graph file> <dir> <shards>");
+            System.err.println("       ShardCoordinator run <dir> [worker heap]");
+            System.exit(2);
+        }
+    }
+
+    /** Stitched SCC ids and finish times of the whole graph. */
+    public static class Result {
+        private final int[] componentId;
+        private final int numComponents;
+        private final double[] finish;
+        private final double[] workerMillis;
+
+        Result(int[] componentId, int numComponents, double[] finish, double[] workerMillis) {
+            this.componentId = componentId;
+            this.numComponents = numComponents;
+            this.finish = finish;
+            this.workerMillis = workerMillis;
+        }
+
+        public int[] getComponentIds() { return componentId; }
+        public int getNumComponents() { return numComponents; }
+        public double[] getFinishTimes() { return finish; }
+        // wall time of each worker process, including JVM startup
+        public double[] getWorkerMillis() { return workerMillis; }
+
+        public double getMakespan() {
+            double makespan = 0.0;
+            for (double f : finish) makespan = Math.max(makespan, f);
+            return makespan;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package graph.partition;
+
+import graph.core.CSRGraph;
+import graph.core.GraphIO;
+import graph.scc.Component;
+import graph.scc.SCCAlgorithm;
+import graph.scc.TarjanSCC;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Entry point of one worker process: loads a single shard written by
+ * {@link GraphPartition#write(Path)}, runs {@link TarjanSCC} on it and computes
+ * earliest finish times from the release times the {@link ShardCoordinator}
+ * left for it. Results go next to the shard files; a non-zero exit status
+ * tells the coordinator the shard failed.
+ */
+public final class ShardWorker {
+
+    private ShardWorker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ShardWorker <partition dir> <shard>");
+            System.exit(2);
+        }
+        run(Paths.get(args[0]), Integer.parseInt(args[1]));
+    }
+
+    public static void run(Path dir, int shard) throws IOException {
+        long start = System.nanoTime();
+        CSRGraph g = GraphIO.readGraph(GraphPartition.file(dir, shard, "graph"));
+        double[] release = GraphIO.readDoubles(GraphPartition.file(dir, shard, "release"));
+        if (release.length != g.getNumVertices()) {
+            throw new IOException("Release times for " + release.length + " vertices, shard " + shard
+                    + " has " + g.getNumVertices());
+        }
+
+        TarjanSCC scc = new TarjanSCC(g);
+        scc.detectSCCs();
+        double[] finish = finishTimes(g, scc, release);
+        GraphIO.writeInts(scc.getComponentIds(), GraphPartition.file(dir, shard, "components"));
+        GraphIO.writeDoubles(finish, GraphPartition.file(dir, shard, "finish"));
+        System.out.println(String.format("shard %d: %d vertices, %d edges, %d SCCs, %.1f ms", shard,
+                g.getNumVertices(), g.getNumEdges(), scc.getComponents().size(), (System.nanoTime() - start) / 1e6));
+    }
+
+    // each component runs as one block of its total vertex weight, no earlier than the release time of any member;
+    // returns the finish time of every vertex's component
+    public static double[] finishTimes(CSRGraph graph, SCCAlgorithm scc, double[] release) {
+        int[] componentId = scc.getComponentIds();
+        List<Component> components = scc.getComponents();
+        CSRGraph incoming = graph.reverseView();
+        double[] componentFinish = new double[components.size()];
+        for (int c = components.size() - 1; c >= 0; c--) {
+            double start = 0.0;
+            double duration = 0.0;
+            for (int v : components.get(c).getVertices()) {
+                if (release != null) start = Math.max(start, release[v]);
+                duration += graph.getVertexWeight(v);
+                for (int e = 0; e < incoming.getOutDegree(v); e++) {
+                    int d = componentId[incoming.getEdgeTarget(v, e)];
+                    if (d != c) start = Math.max(start, componentFinish[d] + incoming.getEdgeWeight(v, e));
+                }
+            }
+            componentFinish[c] = start + duration;
+        }
+        double[] finish = new double[graph.getNumVertices()];
+        for (int v = 0; v < finish.length; v++) finish[v] = componentFinish[componentId[v]];
+        return finish;
+    }
+}
@@ -0,0 +1,149 @@
+package graph.reach;
+
+import graph.core.CSRGraph;
+import graph.core.GraphView;
+import graph.core.Metrics;
+import graph.scc.Component;
+import graph.scc.SCCAlgorithm;
+import graph.scc.TarjanSCC;
+import java.util.*;
+
+/**
+ * Answers many "what is downstream (or upstream) of X" queries at once. Each
+ * source gets one bit; the bits are OR-propagated over the SCC condensation in
+ * topological order, so one pass over the condensation edges serves
+ * 64 * wordsPerPass sources.
+ */
+public class BatchReachability {
+    public enum Direction { DOWNSTREAM, UPSTREAM }
+
+    private final int numVertices;
+    private final int[] componentId;
+    private final int[] componentSize;
+    private final CSRGraph condensation;
+    private final int wordsPerPass;
+    private final Metrics metrics;
+    private long[] bits;
+
+    public BatchReachability(GraphView graph) {
+        this(graph, runTarjan(graph), 4);
+    }
+
+    // scc must already have run detectSCCs() on graph
+    public BatchReachability(GraphView graph, SCCAlgorithm scc, int wordsPerPass) {
+        if (wordsPerPass < 1) {
+            throw new IllegalArgumentException("At least one word per pass is required: " + wordsPerPass);
+        }
+        if (scc.getComponentIds() == null) {
+            throw new IllegalStateException("Call detectSCCs() before building batch reachability.");
+        }
+        this.numVertices = graph.getNumVertices();
+        this.componentId = scc.getComponentIds();
+        this.condensation = CSRGraph.copyOf(scc.getCondensationGraph());
+        this.wordsPerPass = wordsPerPass;
+        this.metrics = new Metrics();
+
+        List<Component> components = scc.getComponents();
+        componentSize = new int[components.size()];
+        for (Component c : components) componentSize[c.getId()] = c.getSize();
+    }
+
+    private static SCCAlgorithm runTarjan(GraphView graph) {
+        TarjanSCC scc = new TarjanSCC(graph);
+        scc.detectSCCs();
+        return scc;
+    }
+
+    // number of vertices reachable from (or reaching) each source, the source itself included
+    public int[] countReachable(int[] sources, Direction direction) {
+        metrics.reset();
+        metrics.startTimer();
+        int[] counts = new int[sources.length];
+        int batch = 64 * wordsPerPass;
+        for (int from = 0; from < sources.length; from += batch) {
+            int words = propagate(sources, from, direction);
+            for (int c = 0; c < componentSize.length; c++) {
+                int base = c * words;
+                for (int w = 0; w < words; w++) {
+                    long word = bits[base + w];
+                    while (word != 0) {
+                        counts[from + w * 64 + Long.numberOfTrailingZeros(word)] += componentSize[c];
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+        metrics.stopTimer();
+        return counts;
+    }
+
+    // full vertex sets, one per source; memory grows with sources * V, so prefer counts for bulk runs
+    public List<BitSet> reachableSets(int[] sources, Direction direction) {
+        metrics.reset();
+        metrics.startTimer();
+        List<BitSet> sets = new ArrayList<>(sources.length);
+        for (int i = 0; i < sources.length; i++) sets.add(new BitSet(numVertices));
+        int batch = 64 * wordsPerPass;
+        for (int from = 0; from < sources.length; from += batch) {
+            int words = propagate(sources, from, direction);
+            for (int v = 0; v < numVertices; v++) {
+                int base = componentId[v] * words;
+                for (int w = 0; w < words; w++) {
+                    long word = bits[base + w];
+                    while (word != 0) {
+                        sets.get(from + w * 64 + Long.numberOfTrailingZeros(word)).set(v);
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+        metrics.stopTimer();
+        return sets;
+    }
+
+    // seeds one bit per source of the batch starting at 'from' and closes it over the condensation
+    private int propagate(int[] sources, int from, Direction direction) {
+        int count = Math.min(sources.length - from, 64 * wordsPerPass);
+        int words = (count + 63) >>> 6;
+        int numComps = componentSize.length;
+        if (bits == null || bits.length < numComps * words) {
+            bits = new long[numComps * wordsPerPass];
+        }
+        Arrays.fill(bits, 0, numComps * words, 0L);
+
+        for (int i = 0; i < count; i++) {
+            int source = sources[from + i];
+            if (source < 0 || source >= numVertices) {
+                throw new IllegalArgumentException("Source index out of range: " + source);
+            }
+            bits[componentId[source] * words + (i >>> 6)] |= 1L << i;
+        }
+
+        // component ids are reverse-topological: every condensation edge goes from a higher id to a lower one
+        if (direction == Direction.DOWNSTREAM) {
+            for (int c = numComps - 1; c >= 0; c--) {
+                int base = c * words;
+                for (int i = 0; i < condensation.getOutDegree(c); i++) {
+                    metrics.recordEdgeProcessed();
+                    int target = condensation.getEdgeTarget(c, i) * words;
+                    for (int w = 0; w < words; w++) bits[target + w] |= bits[base + w];
+                }
+            }
+        } else {
+            for (int c = 0; c < numComps; c++) {
+                int base = c * words;
+                for (int i = 0; i < condensation.getOutDegree(c); i++) {
+                    metrics.recordEdgeProcessed();
+                    int target = condensation.getEdgeTarget(c, i) * words;
+                    for (int w = 0; w < words; w++) bits[base + w] |= bits[target + w];
+                }
+            }
+        }
+        metrics.recordOperation();
+        return words;
+    }
+
+    public int getNumComponents() { return componentSize.length; }
+    public int getWordsPerPass() { return wordsPerPass; }
+    public Metrics getMetrics() { return metrics; }
+}
@@ -0,0 +1,175 @@
+package graph.reach;
+
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.Metrics;
+import graph.topo.TopoSortKahn;
+import java.util.Arrays;
+
+/**
+ * Exact O(1) reachability for a DAG using a minimum path cover as chains. For every
+ * vertex and chain, the index keeps the earliest chain position reachable from
+ * that vertex, so memory is 4 * V * chains bytes. Wide DAGs need many chains;
+ * use {@link #estimateMemoryBytes} and the budget constructor to guard against that.
+ */
+public class ReachabilityIndex {
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int numVertices;
+    private final int numChains;
+    private final int[] chainId;
+    private final int[] chainPos;
+    private final int[] minReach;
+    private final int[] topoPosition;
+    private final Metrics metrics;
+
+    public ReachabilityIndex(GraphView dag) {
+        this(dag, Long.MAX_VALUE);
+    }
+
+    public ReachabilityIndex(GraphView dag, long memoryBudgetBytes) {
+        metrics = new Metrics();
+        metrics.startTimer();
+
+        numVertices = dag.getNumVertices();
+        TopoSortKahn sorter = new TopoSortKahn(dag);
+        if (!sorter.computeTopologicalOrder()) {
+            throw new IllegalArgumentException("Reachability index requires a DAG");
+        }
+        int[] order = sorter.getTopologicalOrderArray();
+        topoPosition = new int[numVertices];
+        for (int i = 0; i < numVertices; i++) topoPosition[order[i]] = i;
+
+        chainId = new int[numVertices];
+        chainPos = new int[numVertices];
+        numChains = buildChains(dag, order);
+
+        long bytes = estimateMemoryBytes(numVertices, numChains);
+        if ((long) numVertices * numChains > Integer.MAX_VALUE - 8 || bytes > memoryBudgetBytes) {
+            throw new IllegalStateException(String.format(
+                    "Reachability index needs %d chains x %d vertices (%d bytes), over budget %d",
+                    numChains, numVertices, bytes, memoryBudgetBytes));
+        }
+
+        minReach = new int[numVertices * numChains];
+        Arrays.fill(minReach, UNREACHABLE);
+        EdgeCursor cursor = dag.newEdgeCursor();
+        for (int i = numVertices - 1; i >= 0; i--) {
+            int u = order[i];
+            metrics.recordOperation();
+            int base = u * numChains;
+            minReach[base + chainId[u]] = chainPos[u];
+            cursor.reset(u);
+            while (cursor.next()) {
+                metrics.recordEdgeProcessed();
+                int other = cursor.target() * numChains;
+                for (int c = 0; c < numChains; c++) {
+                    if (minReach[other + c] < minReach[base + c]) minReach[base + c] = minReach[other + c];
+                }
+            }
+        }
+
+        metrics.stopTimer();
+    }
+
+    // minimum path cover: chains follow the edges of a maximum matching (Hopcroft-Karp)
+    private int buildChains(GraphView dag, int[] order) {
+        int n = numVertices;
+        int[] matchOut = new int[n];
+        int[] matchIn = new int[n];
+        int[] dist = new int[n];
+        int[] queue = new int[n];
+        int[] stack = new int[n];
+        int[] edgeIndex = new int[n];
+        Arrays.fill(matchOut, -1);
+        Arrays.fill(matchIn, -1);
+
+        while (true) {
+            int head = 0;
+            int tail = 0;
+            for (int u = 0; u < n; u++) {
+                if (matchOut[u] == -1) {
+                    dist[u] = 0;
+                    queue[tail++] = u;
+                } else {
+                    dist[u] = UNREACHABLE;
+                }
+            }
+            boolean found = false;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int i = 0; i < dag.getOutDegree(u); i++) {
+                    int w = matchIn[dag.getEdgeTarget(u, i)];
+                    if (w == -1) {
+                        found = true;
+                    } else if (dist[w] == UNREACHABLE) {
+                        dist[w] = dist[u] + 1;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+            if (!found) break;
+
+            Arrays.fill(edgeIndex, 0);
+            for (int root = 0; root < n; root++) {
+                if (matchOut[root] != -1) continue;
+                int depth = 0;
+                stack[depth++] = root;
+                while (depth > 0) {
+                    int x = stack[depth - 1];
+                    if (edgeIndex[x] == dag.getOutDegree(x)) {
+                        dist[x] = UNREACHABLE;
+                        depth--;
+                        continue;
+                    }
+                    int w = matchIn[dag.getEdgeTarget(x, edgeIndex[x])];
+                    if (w == -1) {
+                        // augment along the stack; each entry still points at the edge it followed
+                        for (int i = depth - 1; i >= 0; i--) {
+                            int left = stack[i];
+                            int right = dag.getEdgeTarget(left, edgeIndex[left]);
+                            matchOut[left] = right;
+                            matchIn[right] = left;
+                        }
+                        break;
+                    } else if (dist[w] == dist[x] + 1) {
+                        stack[depth++] = w;
+                    } else {
+                        edgeIndex[x]++;
+                    }
+                }
+            }
+        }
+
+        int chains = 0;
+        for (int start : order) {
+            if (matchIn[start] != -1) continue;
+            int pos = 0;
+            for (int at = start; at != -1; at = matchOut[at]) {
+                chainId[at] = chains;
+                chainPos[at] = pos++;
+            }
+            chains++;
+        }
+        return chains;
+    }
+
+    public static long estimateMemoryBytes(int vertices, int chains) {
+        return 4L * vertices * chains + 12L * vertices;
+    }
+
+    // true when a path (possibly empty) leads from u to v
+    public boolean reaches(int u, int v) {
+        return minReach[u * numChains + chainId[v]] <= chainPos[v];
+    }
+
+    // task-level query over the condensation: does task depend on prerequisite?
+    public boolean taskDependsOn(int[] componentId, int task, int prerequisite) {
+        return reaches(componentId[prerequisite], componentId[task]);
+    }
+
+    public int getTopologicalPosition(int v) { return topoPosition[v]; }
+    public int getNumChains() { return numChains; }
+    public long getMemoryBytes() { return estimateMemoryBytes(numVertices, numChains); }
+    public Metrics getMetrics() { return metrics; }
+}
@@ -0,0 +1,88 @@
+package graph.reach;
+
+import graph.core.EdgeCursor;
+import graph.core.Graph;
+import graph.core.GraphView;
+import graph.core.Metrics;
+import graph.scc.CondensationGraph;
+import java.util.Arrays;
+
+/**
+ * Removes edges implied by longer paths (A->C when A->B->C exists) and
+ * collapses parallel edges. Reachability is preserved; weighted path lengths
+ * are not, since a dropped edge may have been the heavier route.
+ */
+public class TransitiveReduction {
+    private final GraphView dag;
+    private final ReachabilityIndex index;
+    private final Metrics metrics;
+    private long removedEdges;
+
+    public TransitiveReduction(GraphView dag) {
+        this(dag, new ReachabilityIndex(dag));
+    }
+
+    public TransitiveReduction(GraphView dag, ReachabilityIndex index) {
+        this.dag = dag;
+        this.index = index;
+        this.metrics = new Metrics();
+    }
+
+    public Graph reduce() {
+        metrics.reset();
+        metrics.startTimer();
+
+        int n = dag.getNumVertices();
+        Graph reduced = (dag instanceof CondensationGraph)
+                ? new CondensationGraph(n, ((CondensationGraph) dag).getComponents())
+                : new Graph(n);
+        for (int v = 0; v < n; v++) reduced.setVertexWeight(v, dag.getVertexWeight(v));
+
+        long[] successors = new long[16];
+        int[] kept = new int[16];
+        EdgeCursor cursor = dag.newEdgeCursor();
+        removedEdges = 0;
+
+        for (int u = 0; u < n; u++) {
+            int degree = dag.getOutDegree(u);
+            if (successors.length < degree) {
+                successors = new long[Math.max(degree, successors.length * 2)];
+                kept = new int[successors.length];
+            }
+
+            int count = 0;
+            cursor.reset(u);
+            while (cursor.next()) {
+                successors[count] = ((long) index.getTopologicalPosition(cursor.target()) << 32) | count;
+                count++;
+            }
+            Arrays.sort(successors, 0, count);
+
+            // nearest successors first: an edge is redundant if an already kept successor reaches its target
+            int keptCount = 0;
+            for (int i = 0; i < count; i++) {
+                int edge = (int) successors[i];
+                int v = dag.getEdgeTarget(u, edge);
+                boolean redundant = false;
+                for (int j = 0; j < keptCount && !redundant; j++) {
+                    metrics.recordOperation();
+                    redundant = index.reaches(kept[j], v);
+                }
+                metrics.recordEdgeProcessed();
+                if (redundant) {
+                    removedEdges++;
+                } else {
+                    kept[keptCount++] = v;
+                    reduced.addEdge(u, v, dag.getEdgeWeight(u, edge));
+                }
+            }
+        }
+
+        metrics.stopTimer();
+        return reduced;
+    }
+
+    public long getRemovedEdgeCount() { return removedEdges; }
+    public ReachabilityIndex getIndex() { return index; }
+    public Metrics getMetrics() { return metrics; }
+}
@@ -0,0 +1,181 @@
+package graph.reorder;
+
+import graph.core.CSRGraph;
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.dagsp.PathResult;
+import graph.scc.Component;
+import graph.topo.TopoSortKahn;
+import java.util.*;
+
+/**
+ * Permutation of vertex ids used to lay a graph out for cache locality.
+ * {@link #apply} builds the relabelled graph; the map methods translate
+ * results computed on it back to the original ids.
+ */
+public class VertexOrdering {
+    private final int[] newId;
+    private final int[] oldId;
+
+    private VertexOrdering(int[] newId) {
+        int n = newId.length;
+        this.newId = newId;
+        this.oldId = new int[n];
+        Arrays.fill(oldId, -1);
+        for (int v = 0; v < n; v++) {
+            int id = newId[v];
+            if (id < 0 || id >= n || oldId[id] != -1) {
+                throw new IllegalArgumentException("Not a permutation: vertex " + v + " -> " + id);
+            }
+            oldId[id] = v;
+        }
+    }
+
+    public static VertexOrdering fromPermutation(int[] newId) {
+        return new VertexOrdering(newId.clone());
+    }
+
+    public static VertexOrdering identity(int n) {
+        int[] newId = new int[n];
+        for (int v = 0; v < n; v++) newId[v] = v;
+        return new VertexOrdering(newId);
+    }
+
+    public static VertexOrdering breadthFirst(GraphView graph) {
+        int n = graph.getNumVertices();
+        int[] newId = new int[n];
+        Arrays.fill(newId, -1);
+        int[] queue = new int[n];
+        int next = 0;
+        EdgeCursor cursor = graph.newEdgeCursor();
+
+        for (int root = 0; root < n; root++) {
+            if (newId[root] != -1) continue;
+            int head = next;
+            queue[next] = root;
+            newId[root] = next++;
+            while (head < next) {
+                int u = queue[head++];
+                cursor.reset(u);
+                while (cursor.next()) {
+                    int v = cursor.target();
+                    if (newId[v] == -1) {
+                        queue[next] = v;
+                        newId[v] = next++;
+                    }
+                }
+            }
+        }
+        return new VertexOrdering(newId);
+    }
+
+    // Cuthill-McKee on the symmetrised graph, numbered in reverse
+    public static VertexOrdering reverseCuthillMcKee(GraphView graph) {
+        int n = graph.getNumVertices();
+        int[] offsets = new int[n + 1];
+        EdgeCursor cursor = graph.newEdgeCursor();
+        for (int u = 0; u < n; u++) {
+            cursor.reset(u);
+            while (cursor.next()) {
+                int v = cursor.target();
+                if (u == v) continue;
+                offsets[u + 1]++;
+                offsets[v + 1]++;
+            }
+        }
+        int[] degree = new int[n];
+        for (int v = 0; v < n; v++) {
+            degree[v] = offsets[v + 1];
+            offsets[v + 1] += offsets[v];
+        }
+        int[] neighbors = new int[offsets[n]];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int u = 0; u < n; u++) {
+            cursor.reset(u);
+            while (cursor.next()) {
+                int v = cursor.target();
+                if (u == v) continue;
+                neighbors[fill[u]++] = v;
+                neighbors[fill[v]++] = u;
+            }
+        }
+
+        long[] byDegree = new long[n];
+        for (int v = 0; v < n; v++) byDegree[v] = ((long) degree[v] << 32) | v;
+        Arrays.sort(byDegree);
+
+        boolean[] visited = new boolean[n];
+        int[] order = new int[n];
+        long[] scratch = new long[16];
+        int next = 0;
+
+        for (long entry : byDegree) {
+            int start = (int) entry;
+            if (visited[start]) continue;
+            int head = next;
+            order[next++] = start;
+            visited[start] = true;
+
+            while (head < next) {
+                int u = order[head++];
+                int count = 0;
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int v = neighbors[i];
+                    if (visited[v]) continue;
+                    visited[v] = true;
+                    if (count == scratch.length) scratch = Arrays.copyOf(scratch, count * 2);
+                    scratch[count++] = ((long) degree[v] << 32) | v;
+                }
+                Arrays.sort(scratch, 0, count);
+                for (int i = 0; i < count; i++) order[next++] = (int) scratch[i];
+            }
+        }
+
+        int[] newId = new int[n];
+        for (int i = 0; i < n; i++) newId[order[i]] = n - 1 - i;
+        return new VertexOrdering(newId);
+    }
+
+    public static VertexOrdering topological(GraphView graph) {
+        TopoSortKahn sorter = new TopoSortKahn(graph);
+        if (!sorter.computeTopologicalOrder()) {
+            throw new IllegalArgumentException("Topological relabeling requires a DAG");
+        }
+        int[] order = sorter.getTopologicalOrderArray();
+        int[] newId = new int[order.length];
+        for (int i = 0; i < order.length; i++) newId[order[i]] = i;
+        return new VertexOrdering(newId);
+    }
+
+    public CSRGraph apply(GraphView graph) {
+        return CSRGraph.relabel(graph, newId);
+    }
+
+    public int size() { return newId.length; }
+    public int toReordered(int original) { return newId[original]; }
+    public int toOriginal(int reordered) { return oldId[reordered]; }
+    public int[] getPermutation() { return newId.clone(); }
+    public int[] getInverse() { return oldId.clone(); }
+
+    public double[] mapValues(double[] reorderedValues) {
+        double[] result = new double[reorderedValues.length];
+        for (int v = 0; v < reorderedValues.length; v++) result[oldId[v]] = reorderedValues[v];
+        return result;
+    }
+
+    public List<Component> mapComponents(List<Component> components) {
+        List<Component> result = new ArrayList<>(components.size());
+        for (Component c : components) {
+            Component mapped = new Component(c.getId());
+            for (int v : c.getVertices()) mapped.addVertex(oldId[v]);
+            result.add(mapped);
+        }
+        return result;
+    }
+
+    public PathResult mapPath(PathResult path) {
+        List<Integer> vertices = new ArrayList<>(path.getPath().size());
+        for (int v : path.getPath()) vertices.add(oldId[v]);
+        return new PathResult(vertices, path.getLength());
+    }
+}
@@ -16,6 +16,7 @@ public class Component {
 
     public int getId() { return id; }
     public int getSize() { return vertices.size(); }
+    public List<Integer> getVertices() { return vertices; }
 
     @Override
     public String toString() {
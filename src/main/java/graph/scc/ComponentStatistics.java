@@ -0,0 +1,115 @@
+package graph.scc;
+
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.Metrics;
+import graph.util.TopK;
+
+/**
+ * Per-component aggregates of an SCC result, gathered in one pass over the
+ * vertices and their out-edges using only the component id array: size,
+ * internal edge count, total vertex weight, and in/out degree in the
+ * condensation. Degrees count every crossing edge, so parallel edges between
+ * the same two components each add one. Top-k queries go through {@link TopK}
+ * instead of sorting all components.
+ */
+public class ComponentStatistics {
+    private final GraphView graph;
+    private final int[] componentId;
+    private final int numComponents;
+    private final Metrics metrics;
+    private int[] size;
+    private int[] internalEdges;
+    private double[] weight;
+    private int[] inDegree;
+    private int[] outDegree;
+
+    // scc must already have run detectSCCs() on graph
+    public ComponentStatistics(GraphView graph, SCCAlgorithm scc) {
+        if (scc.getComponentIds() == null) {
+            throw new IllegalStateException("Call detectSCCs() before computing component statistics.");
+        }
+        this.graph = graph;
+        this.componentId = scc.getComponentIds();
+        this.numComponents = scc.getComponents().size();
+        this.metrics = new Metrics();
+    }
+
+    public void compute() {
+        metrics.reset();
+        metrics.startTimer();
+
+        int c = numComponents;
+        size = new int[c];
+        internalEdges = new int[c];
+        weight = new double[c];
+        inDegree = new int[c];
+        outDegree = new int[c];
+        EdgeCursor cursor = graph.newEdgeCursor();
+        for (int u = 0; u < graph.getNumVertices(); u++) {
+            int cu = componentId[u];
+            size[cu]++;
+            weight[cu] += graph.getVertexWeight(u);
+            cursor.reset(u);
+            while (cursor.next()) {
+                int cv = componentId[cursor.target()];
+                if (cv == cu) {
+                    internalEdges[cu]++;
+                } else {
+                    outDegree[cu]++;
+                    inDegree[cv]++;
+                }
+            }
+            metrics.recordDFSVisit();
+        }
+        metrics.addEdgesProcessed(graph.getNumEdges());
+
+        metrics.stopTimer();
+    }
+
+    // the k components with the largest total vertex weight, heaviest first
+    public int[] getHotspots(int k) {
+        checkComputed();
+        return TopK.largest(weight, k);
+    }
+
+    public int getLargestSize() {
+        checkComputed();
+        int largest = 0;
+        for (int s : size) largest = Math.max(largest, s);
+        return largest;
+    }
+
+    public int getSingletonCount() {
+        checkComputed();
+        int singletons = 0;
+        for (int s : size) if (s == 1) singletons++;
+        return singletons;
+    }
+
+    public long getTotalInternalEdges() {
+        checkComputed();
+        long total = 0;
+        for (int e : internalEdges) total += e;
+        return total;
+    }
+
+    public String describe(int component) {
+        checkComputed();
+        return String.format("#%d: %d tasks, %d internal edges, weight %.2f, %d in / %d out",
+                component, size[component], internalEdges[component], weight[component],
+                inDegree[component], outDegree[component]);
+    }
+
+    public int getNumComponents() { return numComponents; }
+    public int getSize(int component) { checkComputed(); return size[component]; }
+    public int getInternalEdges(int component) { checkComputed(); return internalEdges[component]; }
+    public double getWeight(int component) { checkComputed(); return weight[component]; }
+    public int getInDegree(int component) { checkComputed(); return inDegree[component]; }
+    public int getOutDegree(int component) { checkComputed(); return outDegree[component]; }
+    public Metrics getMetrics() { return metrics; }
+
+    private void checkComputed() {
+        if (size == null) throw new IllegalStateException("Call compute() first.");
+    }
+}
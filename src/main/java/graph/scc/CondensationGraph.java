@@ -1,8 +1,17 @@
 package graph.scc;
+import graph.core.CSRGraph;
+import graph.core.EdgeCursor;
 import graph.core.Graph;
+import graph.core.GraphBuilder;
+import graph.core.GraphView;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 public class CondensationGraph extends Graph {
+    // below this many edges the scan is too short to pay for the threads
+    static final int PARALLEL_MIN_EDGES = 1 << 16;
+
     private List<Component> components;
 
     public CondensationGraph(int numComponents, List<Component> components) {
@@ -10,4 +19,79 @@ public class CondensationGraph extends Graph {
         this.components = components;
     }
 
-}
\ No newline at end of file
+    public static CondensationGraph build(GraphView graph, int[] componentId, List<Component> components) {
+        int threads = graph.getNumEdges() < PARALLEL_MIN_EDGES ? 1 : Runtime.getRuntime().availableProcessors();
+        return build(graph, componentId, components, threads);
+    }
+
+    // each thread collects the cross-component edges of one vertex range into its own primitive
+    // buffers; merging them in range order keeps the first edge per component pair, as a sequential scan would
+    public static CondensationGraph build(GraphView graph, int[] componentId, List<Component> components,
+                                          int threads) {
+        int n = graph.getNumVertices();
+        int parts = Math.max(1, Math.min(threads, n));
+        CrossEdges[] buffers = new CrossEdges[parts];
+        if (parts == 1) {
+            buffers[0] = collect(graph, componentId, 0, n);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parts);
+            try {
+                pool.submit(() -> IntStream.range(0, parts).parallel().forEach(p -> buffers[p] = collect(
+                        graph, componentId, (int) ((long) n * p / parts), (int) ((long) n * (p + 1) / parts)))).join();
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        long total = 0;
+        for (CrossEdges b : buffers) total += b.size;
+        GraphBuilder builder = new GraphBuilder(components.size(), (int) Math.min(total, Integer.MAX_VALUE - 8))
+                .duplicatePolicy(GraphBuilder.DuplicatePolicy.FIRST);
+        for (CrossEdges b : buffers) builder.addEdges(b.from, b.to, b.weight, b.size);
+        CSRGraph merged = builder.build();
+
+        CondensationGraph condGraph = new CondensationGraph(components.size(), components);
+        EdgeCursor cursor = merged.newEdgeCursor();
+        for (int c = 0; c < merged.getNumVertices(); c++) {
+            cursor.reset(c);
+            while (cursor.next()) condGraph.addEdge(c, cursor.target(), cursor.weight());
+        }
+        return condGraph;
+    }
+
+    private static CrossEdges collect(GraphView graph, int[] componentId, int start, int end) {
+        CrossEdges out = new CrossEdges();
+        EdgeCursor cursor = graph.newEdgeCursor();
+        for (int v = start; v < end; v++) {
+            int compFrom = componentId[v];
+            cursor.reset(v);
+            while (cursor.next()) {
+                int compTo = componentId[cursor.target()];
+                if (compFrom != compTo) out.add(compFrom, compTo, cursor.weight());
+            }
+        }
+        return out;
+    }
+
+    public List<Component> getComponents() { return components; }
+
+    private static final class CrossEdges {
+        int[] from = new int[64];
+        int[] to = new int[64];
+        double[] weight = new double[64];
+        int size;
+
+        void add(int u, int v, double w) {
+            if (size == from.length) {
+                int capacity = size + (size >> 1);
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+            }
+            from[size] = u;
+            to[size] = v;
+            weight[size] = w;
+            size++;
+        }
+    }
+}
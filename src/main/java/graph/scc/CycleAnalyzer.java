@@ -0,0 +1,228 @@
+package graph.scc;
+
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.Metrics;
+import java.util.*;
+
+/**
+ * Explains the cyclic components found by an {@link SCCAlgorithm}. For each
+ * component with a cycle it finds a shortest cycle through one vertex (BFS) and
+ * a feedback arc set from the Eades-Lin-Smyth ordering. Only intra-component
+ * edges are considered and each is touched a constant number of times, so the
+ * whole analysis is O(V + E).
+ */
+public class CycleAnalyzer {
+    private final GraphView graph;
+    private final SCCAlgorithm scc;
+    private final Metrics metrics;
+    private List<CycleReport> reports;
+    private long feedbackArcCount;
+
+    // scc must already have run detectSCCs() on graph
+    public CycleAnalyzer(GraphView graph, SCCAlgorithm scc) {
+        if (scc.getComponentIds() == null) {
+            throw new IllegalStateException("Call detectSCCs() before analyzing cycles.");
+        }
+        this.graph = graph;
+        this.scc = scc;
+        this.metrics = new Metrics();
+    }
+
+    public List<CycleReport> analyze() {
+        metrics.reset();
+        metrics.startTimer();
+
+        int n = graph.getNumVertices();
+        int[] componentId = scc.getComponentIds();
+        List<Component> components = scc.getComponents();
+        int[] selfLoop = new int[components.size()];
+        Arrays.fill(selfLoop, -1);
+        EdgeCursor cursor = graph.newEdgeCursor();
+        for (int u = 0; u < n; u++) {
+            cursor.reset(u);
+            while (cursor.next()) {
+                if (cursor.target() == u) selfLoop[componentId[u]] = u;
+            }
+        }
+
+        int[] position = feedbackOrder(componentId);
+        Map<Integer, List<int[]>> arcs = new HashMap<>();
+        feedbackArcCount = 0;
+        for (int u = 0; u < n; u++) {
+            cursor.reset(u);
+            while (cursor.next()) {
+                int v = cursor.target();
+                if (componentId[v] == componentId[u] && position[u] >= position[v]) {
+                    arcs.computeIfAbsent(componentId[u], c -> new ArrayList<>()).add(new int[]{u, v});
+                    feedbackArcCount++;
+                }
+            }
+        }
+
+        reports = new ArrayList<>();
+        int[] parent = new int[n];
+        int[] stamp = new int[n];
+        int[] queue = new int[n];
+        for (Component c : components) {
+            if (c.getSize() == 1 && selfLoop[c.getId()] == -1) continue;
+            List<Integer> cycle = selfLoop[c.getId()] != -1
+                    ? Collections.singletonList(selfLoop[c.getId()])
+                    : shortestCycleThrough(c.getVertices().get(0), componentId, parent, stamp, queue);
+            reports.add(new CycleReport(c.getId(), c.getSize(), cycle, arcs.get(c.getId())));
+        }
+
+        metrics.stopTimer();
+        return reports;
+    }
+
+    // BFS inside the component; the first edge back to start closes a shortest cycle through it
+    private List<Integer> shortestCycleThrough(int start, int[] componentId, int[] parent, int[] stamp, int[] queue) {
+        int comp = componentId[start];
+        int mark = comp + 1;
+        EdgeCursor cursor = graph.newEdgeCursor();
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        stamp[start] = mark;
+        int last = -1;
+        while (head < tail && last == -1) {
+            int u = queue[head++];
+            metrics.recordDFSVisit();
+            cursor.reset(u);
+            while (cursor.next()) {
+                metrics.recordEdgeProcessed();
+                int v = cursor.target();
+                if (v == start) {
+                    last = u;
+                    break;
+                }
+                if (componentId[v] == comp && stamp[v] != mark) {
+                    stamp[v] = mark;
+                    parent[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        List<Integer> cycle = new ArrayList<>();
+        for (int v = last; v != start; v = parent[v]) cycle.add(v);
+        cycle.add(start);
+        Collections.reverse(cycle);
+        return cycle;
+    }
+
+    /*
+     * Eades-Lin-Smyth over the intra-component edges: repeatedly peel sinks to the
+     * back and sources to the front, otherwise move the vertex with the largest
+     * out-degree minus in-degree to the front. Vertices live in doubly linked
+     * buckets (0 = sink, 1 = source, 2 + delta + maxDegree otherwise) so every
+     * step is O(1) amortized. Edges pointing backwards in the result form the
+     * feedback arc set; self-loops are left out of the degrees.
+     */
+    private int[] feedbackOrder(int[] componentId) {
+        int n = graph.getNumVertices();
+        GraphView incoming = graph.reverseView();
+        EdgeCursor cursor = graph.newEdgeCursor();
+        int[] outDeg = new int[n];
+        int[] inDeg = new int[n];
+        int maxDegree = 0;
+        for (int u = 0; u < n; u++) {
+            cursor.reset(u);
+            while (cursor.next()) {
+                int v = cursor.target();
+                if (v != u && componentId[v] == componentId[u]) {
+                    outDeg[u]++;
+                    inDeg[v]++;
+                }
+            }
+        }
+        for (int v = 0; v < n; v++) maxDegree = Math.max(maxDegree, Math.max(outDeg[v], inDeg[v]));
+
+        int buckets = 2 * maxDegree + 3;
+        int[] head = new int[buckets];
+        int[] next = new int[n];
+        int[] prev = new int[n];
+        int[] bucketOf = new int[n];
+        Arrays.fill(head, -1);
+        for (int v = 0; v < n; v++) {
+            bucketOf[v] = bucketFor(outDeg[v], inDeg[v], maxDegree);
+            link(v, bucketOf[v], head, next, prev);
+        }
+
+        int[] position = new int[n];
+        boolean[] removed = new boolean[n];
+        int front = 0;
+        int back = n - 1;
+        int top = buckets - 1;
+        EdgeCursor inCursor = incoming.newEdgeCursor();
+
+        for (int remaining = n; remaining > 0; remaining--) {
+            int u;
+            if (head[0] != -1) {
+                u = head[0];
+                position[u] = back--;
+            } else if (head[1] != -1) {
+                u = head[1];
+                position[u] = front++;
+            } else {
+                while (head[top] == -1) top--;
+                u = head[top];
+                position[u] = front++;
+            }
+            metrics.recordOperation();
+            unlink(u, bucketOf[u], head, next, prev);
+            removed[u] = true;
+
+            cursor.reset(u);
+            while (cursor.next()) {
+                int v = cursor.target();
+                if (v == u || removed[v] || componentId[v] != componentId[u]) continue;
+                metrics.recordEdgeProcessed();
+                inDeg[v]--;
+                top = Math.max(top, move(v, bucketFor(outDeg[v], inDeg[v], maxDegree), bucketOf, head, next, prev));
+            }
+            inCursor.reset(u);
+            while (inCursor.next()) {
+                int v = inCursor.target();
+                if (v == u || removed[v] || componentId[v] != componentId[u]) continue;
+                metrics.recordEdgeProcessed();
+                outDeg[v]--;
+                top = Math.max(top, move(v, bucketFor(outDeg[v], inDeg[v], maxDegree), bucketOf, head, next, prev));
+            }
+        }
+        return position;
+    }
+
+    private static int bucketFor(int out, int in, int maxDegree) {
+        if (out == 0) return 0;
+        if (in == 0) return 1;
+        return 2 + out - in + maxDegree;
+    }
+
+    private static int move(int v, int bucket, int[] bucketOf, int[] head, int[] next, int[] prev) {
+        if (bucketOf[v] != bucket) {
+            unlink(v, bucketOf[v], head, next, prev);
+            link(v, bucket, head, next, prev);
+            bucketOf[v] = bucket;
+        }
+        return bucket;
+    }
+
+    private static void link(int v, int bucket, int[] head, int[] next, int[] prev) {
+        prev[v] = -1;
+        next[v] = head[bucket];
+        if (head[bucket] != -1) prev[head[bucket]] = v;
+        head[bucket] = v;
+    }
+
+    private static void unlink(int v, int bucket, int[] head, int[] next, int[] prev) {
+        if (prev[v] != -1) next[prev[v]] = next[v];
+        else head[bucket] = next[v];
+        if (next[v] != -1) prev[next[v]] = prev[v];
+    }
+
+    public List<CycleReport> getReports() { return reports; }
+    public long getFeedbackArcCount() { return feedbackArcCount; }
+    public Metrics getMetrics() { return metrics; }
+}
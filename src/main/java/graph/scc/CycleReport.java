@@ -0,0 +1,40 @@
+package graph.scc;
+
+import java.util.*;
+
+/**
+ * Why one strongly connected component is cyclic: a short witness cycle and
+ * the edges whose removal makes the component acyclic.
+ */
+public class CycleReport {
+    private final int componentId;
+    private final int size;
+    private final List<Integer> witnessCycle;
+    private final List<int[]> feedbackArcs;
+
+    public CycleReport(int componentId, int size, List<Integer> witnessCycle, List<int[]> feedbackArcs) {
+        this.componentId = componentId;
+        this.size = size;
+        this.witnessCycle = witnessCycle;
+        this.feedbackArcs = feedbackArcs;
+    }
+
+    public int getComponentId() { return componentId; }
+    public int getSize() { return size; }
+    // vertices in cycle order; the last vertex has an edge back to the first
+    public List<Integer> getWitnessCycle() { return witnessCycle; }
+    // {from, to} pairs
+    public List<int[]> getFeedbackArcs() { return feedbackArcs; }
+
+    public String describeCycle() {
+        StringBuilder sb = new StringBuilder();
+        for (int v : witnessCycle) sb.append(v).append(" → ");
+        return sb.append(witnessCycle.get(0)).toString();
+    }
+
+    @Override
+    public String toString() {
+        return "CycleReport{" + "component=" + componentId + ", size=" + size
+                + ", cycle=" + describeCycle() + ", feedbackArcs=" + feedbackArcs.size() + "}";
+    }
+}
@@ -0,0 +1,109 @@
+package graph.scc;
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.LatencyHistogram;
+import graph.core.Metrics;
+import java.util.*;
+
+// first pass over the cached reverse graph, second over the forward graph,
+// so components come out sinks first like Tarjan's
+public class KosarajuSCC implements SCCAlgorithm {
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+
+    private GraphView graph;
+    private Metrics metrics;
+    private List<Component> components;
+    private int[] componentId;
+
+    public KosarajuSCC(GraphView graph) {
+        this.graph = graph;
+        this.metrics = new Metrics(LATENCY);
+    }
+
+    public void detectSCCs() {
+        metrics.reset();
+        metrics.startTimer();
+
+        int n = graph.getNumVertices();
+        GraphView reversed = graph.reverseView();
+        int[] callStack = new int[n];
+        EdgeCursor[] frames = new EdgeCursor[n];
+        boolean[] visited = new boolean[n];
+        int[] finishOrder = new int[n];
+        int finished = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) continue;
+            int depth = 0;
+            frame(frames, reversed, depth, root);
+            callStack[depth++] = root;
+            visited[root] = true;
+            metrics.recordDFSVisit();
+
+            while (depth > 0) {
+                int at = callStack[depth - 1];
+                if (frames[depth - 1].next()) {
+                    int to = frames[depth - 1].target();
+                    metrics.recordEdgeProcessed();
+                    if (!visited[to]) {
+                        visited[to] = true;
+                        metrics.recordDFSVisit();
+                        frame(frames, reversed, depth, to);
+                        callStack[depth++] = to;
+                    }
+                } else {
+                    depth--;
+                    finishOrder[finished++] = at;
+                }
+            }
+        }
+
+        components = new ArrayList<>();
+        componentId = new int[n];
+        Arrays.fill(componentId, -1);
+        int[] stack = callStack;
+        EdgeCursor cursor = graph.newEdgeCursor();
+
+        for (int i = n - 1; i >= 0; i--) {
+            int root = finishOrder[i];
+            if (componentId[root] != -1) continue;
+
+            Component component = new Component(components.size());
+            int size = 0;
+            stack[size++] = root;
+            componentId[root] = component.getId();
+            while (size > 0) {
+                int at = stack[--size];
+                metrics.recordDFSVisit();
+                component.addVertex(at);
+                cursor.reset(at);
+                while (cursor.next()) {
+                    int to = cursor.target();
+                    metrics.recordEdgeProcessed();
+                    if (componentId[to] == -1) {
+                        componentId[to] = component.getId();
+                        stack[size++] = to;
+                    }
+                }
+            }
+            components.add(component);
+        }
+
+        metrics.stopTimer();
+    }
+
+    // one cursor per DFS depth, created on first use and reset for each vertex pushed there
+    private static void frame(EdgeCursor[] frames, GraphView reversed, int depth, int vertex) {
+        if (frames[depth] == null) frames[depth] = reversed.newEdgeCursor();
+        frames[depth].reset(vertex);
+    }
+
+    public List<Component> getComponents() { return components; }
+    public int[] getComponentIds() { return componentId; }
+    public Metrics getMetrics() { return metrics; }
+    public static LatencyHistogram getLatencyHistogram() { return LATENCY; }
+
+    public CondensationGraph getCondensationGraph() {
+        return CondensationGraph.build(graph, componentId, components);
+    }
+}
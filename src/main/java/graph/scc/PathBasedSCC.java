@@ -0,0 +1,106 @@
+package graph.scc;
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.LatencyHistogram;
+import graph.core.Metrics;
+import java.util.*;
+
+// Gabow's path-based algorithm: a second stack of path boundaries replaces lowlinks
+public class PathBasedSCC implements SCCAlgorithm {
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+
+    private GraphView graph;
+    private Metrics metrics;
+    private List<Component> components;
+    private int[] componentId;
+
+    public PathBasedSCC(GraphView graph) {
+        this.graph = graph;
+        this.metrics = new Metrics(LATENCY);
+    }
+
+    public void detectSCCs() {
+        metrics.reset();
+        metrics.startTimer();
+
+        int n = graph.getNumVertices();
+        int[] preorder = new int[n];
+        int[] callStack = new int[n];
+        EdgeCursor[] frames = new EdgeCursor[n];
+        int[] stack = new int[n];
+        int[] boundaries = new int[n];
+        int stackSize = 0;
+        int boundarySize = 0;
+        int counter = 0;
+
+        components = new ArrayList<>();
+        componentId = new int[n];
+        Arrays.fill(preorder, -1);
+        Arrays.fill(componentId, -1);
+
+        for (int root = 0; root < n; root++) {
+            if (preorder[root] != -1) continue;
+
+            int depth = 0;
+            frame(frames, graph, depth, root);
+            callStack[depth++] = root;
+            metrics.recordDFSVisit();
+            preorder[root] = counter++;
+            stack[stackSize++] = root;
+            boundaries[boundarySize++] = root;
+
+            while (depth > 0) {
+                int at = callStack[depth - 1];
+
+                if (frames[depth - 1].next()) {
+                    int to = frames[depth - 1].target();
+                    metrics.recordEdgeProcessed();
+
+                    if (preorder[to] == -1) {
+                        frame(frames, graph, depth, to);
+                        callStack[depth++] = to;
+                        metrics.recordDFSVisit();
+                        preorder[to] = counter++;
+                        stack[stackSize++] = to;
+                        boundaries[boundarySize++] = to;
+                    } else if (componentId[to] == -1) {
+                        while (preorder[boundaries[boundarySize - 1]] > preorder[to]) {
+                            boundarySize--;
+                        }
+                    }
+                    continue;
+                }
+
+                depth--;
+                if (boundaries[boundarySize - 1] == at) {
+                    boundarySize--;
+                    Component component = new Component(components.size());
+                    while (true) {
+                        int node = stack[--stackSize];
+                        componentId[node] = component.getId();
+                        component.addVertex(node);
+                        if (node == at) break;
+                    }
+                    components.add(component);
+                }
+            }
+        }
+
+        metrics.stopTimer();
+    }
+
+    // one cursor per DFS depth, created on first use and reset for each vertex pushed there
+    private static void frame(EdgeCursor[] frames, GraphView graph, int depth, int vertex) {
+        if (frames[depth] == null) frames[depth] = graph.newEdgeCursor();
+        frames[depth].reset(vertex);
+    }
+
+    public List<Component> getComponents() { return components; }
+    public int[] getComponentIds() { return componentId; }
+    public Metrics getMetrics() { return metrics; }
+    public static LatencyHistogram getLatencyHistogram() { return LATENCY; }
+
+    public CondensationGraph getCondensationGraph() {
+        return CondensationGraph.build(graph, componentId, components);
+    }
+}
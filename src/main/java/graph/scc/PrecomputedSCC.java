@@ -0,0 +1,54 @@
+package graph.scc;
+
+import graph.core.GraphView;
+import graph.core.Metrics;
+import java.util.*;
+
+/**
+ * {@link SCCAlgorithm} over component ids computed earlier, e.g. restored from a
+ * checkpoint. detectSCCs() only regroups the vertices by id in O(V), so the ids
+ * must already follow the reverse-topological numbering of the interface.
+ */
+public class PrecomputedSCC implements SCCAlgorithm {
+    private final GraphView graph;
+    private final int[] componentId;
+    private final Metrics metrics;
+    private List<Component> components;
+
+    public PrecomputedSCC(GraphView graph, int[] componentId) {
+        if (componentId.length != graph.getNumVertices()) {
+            throw new IllegalArgumentException("Component ids for " + componentId.length
+                    + " vertices, graph has " + graph.getNumVertices());
+        }
+        this.graph = graph;
+        this.componentId = componentId;
+        this.metrics = new Metrics();
+    }
+
+    public void detectSCCs() {
+        metrics.reset();
+        metrics.startTimer();
+
+        int count = 0;
+        for (int id : componentId) {
+            if (id < 0) throw new IllegalArgumentException("Negative component id: " + id);
+            count = Math.max(count, id + 1);
+        }
+        components = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) components.add(new Component(c));
+        for (int v = 0; v < componentId.length; v++) {
+            metrics.recordOperation();
+            components.get(componentId[v]).addVertex(v);
+        }
+
+        metrics.stopTimer();
+    }
+
+    public List<Component> getComponents() { return components; }
+    public int[] getComponentIds() { return componentId; }
+    public Metrics getMetrics() { return metrics; }
+
+    public CondensationGraph getCondensationGraph() {
+        return CondensationGraph.build(graph, componentId, components);
+    }
+}
@@ -0,0 +1,25 @@
+package graph.scc;
+
+import graph.core.Metrics;
+import java.util.List;
+
+/**
+ * Common contract of the SCC implementations. Components are numbered in
+ * reverse topological order of the condensation: every edge between two
+ * components goes from a higher id to a lower one.
+ */
+public interface SCCAlgorithm {
+    void detectSCCs();
+    List<Component> getComponents();
+    int[] getComponentIds();
+    Metrics getMetrics();
+    CondensationGraph getCondensationGraph();
+
+    // reversing the ids gives a topological order of the condensation with no extra pass over the edges
+    default int[] getCondensationTopologicalOrder() {
+        int count = getComponents().size();
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) order[i] = count - 1 - i;
+        return order;
+    }
+}
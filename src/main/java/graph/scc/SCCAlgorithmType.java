@@ -0,0 +1,26 @@
+package graph.scc;
+
+import graph.core.GraphView;
+
+public enum SCCAlgorithmType {
+    TARJAN,
+    KOSARAJU,
+    PATH_BASED;
+
+    public SCCAlgorithm create(GraphView graph) {
+        switch (this) {
+            case KOSARAJU: return new KosarajuSCC(graph);
+            case PATH_BASED: return new PathBasedSCC(graph);
+            default: return new TarjanSCC(graph);
+        }
+    }
+
+    public static SCCAlgorithmType fromName(String name) {
+        switch (name.trim().toLowerCase().replace('-', '_')) {
+            case "tarjan": return TARJAN;
+            case "kosaraju": return KOSARAJU;
+            case "path_based": case "gabow": return PATH_BASED;
+            default: throw new IllegalArgumentException("Unknown SCC algorithm: " + name);
+        }
+    }
+}
@@ -1,25 +1,34 @@
 package graph.scc;
-import graph.core.Graph;
+import graph.core.AlgorithmPhaseEvent;
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.LatencyHistogram;
 import graph.core.Metrics;
 import java.util.*;
 
-public class TarjanSCC {
-    private Graph graph;
+public class TarjanSCC implements SCCAlgorithm {
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+
+    private GraphView graph;
     private Metrics metrics;
     private int[] ids;
     private int[] lowlinks;
     private boolean[] onStack;
-    private Stack<Integer> stack;
+    private int[] stack;
+    private int stackSize;
+    private int[] callStack;
+    private EdgeCursor[] frames;
     private int idCounter;
     private List<Component> components;
     private int[] componentId;
 
-    public TarjanSCC(Graph graph) {
+    public TarjanSCC(GraphView graph) {
         this.graph = graph;
-        this.metrics = new Metrics();
+        this.metrics = new Metrics(LATENCY);
     }
 
     public void detectSCCs() {
+        AlgorithmPhaseEvent event = AlgorithmPhaseEvent.start("TarjanSCC", "detectSCCs", graph);
         metrics.reset();
         metrics.startTimer();
 
@@ -27,7 +36,10 @@ public class TarjanSCC {
         ids = new int[n];
         lowlinks = new int[n];
         onStack = new boolean[n];
-        stack = new Stack<>();
+        stack = new int[n];
+        stackSize = 0;
+        callStack = new int[n];
+        frames = new EdgeCursor[n];
         idCounter = 0;
         components = new ArrayList<>();
         componentId = new int[n];
@@ -41,62 +53,76 @@ public class TarjanSCC {
             }
         }
 
+        callStack = null;
+        frames = null;
         metrics.stopTimer();
+        event.finish(metrics);
     }
 
-    private void dfs(int at) {
-        metrics.recordDFSVisit();
-        stack.push(at);
-        onStack[at] = true;
-        ids[at] = lowlinks[at] = idCounter++;
+    // iterative DFS: callStack holds the recursion path, frames the edge cursor of each vertex on it
+    private void dfs(int root) {
+        int depth = 0;
+        frame(depth, root);
+        callStack[depth++] = root;
+        visit(root);
+
+        while (depth > 0) {
+            int at = callStack[depth - 1];
 
-        for (Graph.Edge edge : graph.getAdjacent(at)) {
-            metrics.recordEdgeProcessed();
-            int to = edge.to;
+            if (frames[depth - 1].next()) {
+                int to = frames[depth - 1].target();
+                metrics.recordEdgeProcessed();
 
-            if (ids[to] == -1) {
-                dfs(to);
-                lowlinks[at] = Math.min(lowlinks[at], lowlinks[to]);
-            } else if (onStack[to]) {
-                lowlinks[at] = Math.min(lowlinks[at], ids[to]);
+                if (ids[to] == -1) {
+                    frame(depth, to);
+                    callStack[depth++] = to;
+                    visit(to);
+                } else if (onStack[to]) {
+                    lowlinks[at] = Math.min(lowlinks[at], ids[to]);
+                }
+                continue;
             }
-        }
 
-        if (ids[at] == lowlinks[at]) {
-            Component component = new Component(components.size());
-            while (true) {
-                int node = stack.pop();
-                onStack[node] = false;
-                componentId[node] = component.getId();
-                component.addVertex(node);
-                if (node == at) break;
+            depth--;
+            if (ids[at] == lowlinks[at]) {
+                Component component = new Component(components.size());
+                while (true) {
+                    int node = stack[--stackSize];
+                    onStack[node] = false;
+                    componentId[node] = component.getId();
+                    component.addVertex(node);
+                    if (node == at) break;
+                }
+                components.add(component);
+            }
+            if (depth > 0) {
+                int parent = callStack[depth - 1];
+                lowlinks[parent] = Math.min(lowlinks[parent], lowlinks[at]);
             }
-            components.add(component);
         }
     }
 
+    // one cursor per DFS depth, created on first use and reset for each vertex pushed there
+    private EdgeCursor frame(int depth, int vertex) {
+        if (frames[depth] == null) frames[depth] = graph.newEdgeCursor();
+        frames[depth].reset(vertex);
+        return frames[depth];
+    }
+
+    private void visit(int at) {
+        metrics.recordDFSVisit();
+        stack[stackSize++] = at;
+        onStack[at] = true;
+        ids[at] = lowlinks[at] = idCounter++;
+    }
+
     public List<Component> getComponents() { return components; }
+    public int[] getComponentIds() { return componentId; }
     public Metrics getMetrics() { return metrics; }
+    public static LatencyHistogram getLatencyHistogram() { return LATENCY; }
 
 
     public CondensationGraph getCondensationGraph() {
-        int numComps = components.size();
-        CondensationGraph condGraph = new CondensationGraph(numComps, components);
-
-        Set<String> edges = new HashSet<>();
-        for (int v = 0; v < graph.getNumVertices(); v++) {
-            for (Graph.Edge e : graph.getAdjacent(v)) {
-                int compFrom = componentId[v];
-                int compTo = componentId[e.to];
-                if (compFrom != compTo) {
-                    String edgeKey = compFrom + "-" + compTo;
-                    if (!edges.contains(edgeKey)) {
-                        edges.add(edgeKey);
-                        condGraph.addEdge(compFrom, compTo, e.weight);
-                    }
-                }
-            }
-        }
-        return condGraph;
+        return CondensationGraph.build(graph, componentId, components);
     }
-}
\ No newline at end of file
+}
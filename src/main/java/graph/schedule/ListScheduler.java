@@ -0,0 +1,142 @@
+package graph.schedule;
+
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.LatencyHistogram;
+import graph.core.Metrics;
+import graph.dagsp.DAGLongestPath;
+import graph.util.IntDoubleHeap;
+import java.util.Arrays;
+
+/**
+ * Event-driven list scheduling of a task DAG on a fixed number of workers.
+ * Task durations are vertex weights and edge weights are minimum lags between
+ * a task finishing and its successor starting. Ready tasks are started
+ * critical-path-first: by largest tail length from {@link DAGLongestPath}.
+ */
+public class ListScheduler {
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+
+    private final GraphView graph;
+    private final int workers;
+    private final Metrics metrics;
+    private double[] startTimes;
+    private double[] finishTimes;
+    private int[] assignedWorker;
+    private double makespan;
+    private double criticalPathBound;
+    private double totalWork;
+
+    public ListScheduler(GraphView graph, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required: " + workers);
+        }
+        this.graph = graph;
+        this.workers = workers;
+        this.metrics = new Metrics(LATENCY);
+    }
+
+    public boolean schedule() {
+        metrics.reset();
+        metrics.startTimer();
+
+        int n = graph.getNumVertices();
+        startTimes = new double[n];
+        finishTimes = new double[n];
+        assignedWorker = new int[n];
+        Arrays.fill(startTimes, Double.NaN);
+        Arrays.fill(finishTimes, Double.NaN);
+        Arrays.fill(assignedWorker, -1);
+        makespan = 0.0;
+        criticalPathBound = 0.0;
+        totalWork = 0.0;
+
+        double[] tail;
+        try {
+            tail = new DAGLongestPath(graph).computeTailLengths();
+        } catch (IllegalStateException cyclic) {
+            metrics.stopTimer();
+            return false;
+        }
+        for (int v = 0; v < n; v++) {
+            criticalPathBound = Math.max(criticalPathBound, tail[v]);
+            totalWork += graph.getVertexWeight(v);
+        }
+
+        int[] inDegree = new int[n];
+        double[] release = new double[n];
+        EdgeCursor cursor = graph.newEdgeCursor();
+        for (int u = 0; u < n; u++) {
+            cursor.reset(u);
+            while (cursor.next()) inDegree[cursor.target()]++;
+        }
+
+        IntDoubleHeap pending = new IntDoubleHeap(1024);
+        IntDoubleHeap ready = new IntDoubleHeap(1024);
+        IntDoubleHeap running = new IntDoubleHeap(Math.min(workers, n));
+        int[] freeWorkers = new int[workers];
+        int freeCount = workers;
+        for (int w = 0; w < workers; w++) freeWorkers[w] = workers - 1 - w;
+
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) pending.push(v, 0.0);
+        }
+
+        double now = 0.0;
+        int finished = 0;
+        while (finished < n) {
+            while (!pending.isEmpty() && pending.peekKey() <= now) {
+                int v = pending.pop();
+                ready.push(v, -tail[v]);
+            }
+            while (!ready.isEmpty() && freeCount > 0) {
+                int v = ready.pop();
+                metrics.recordOperation();
+                int worker = freeWorkers[--freeCount];
+                startTimes[v] = now;
+                finishTimes[v] = now + graph.getVertexWeight(v);
+                assignedWorker[v] = worker;
+                running.push(v, finishTimes[v]);
+            }
+
+            if (running.isEmpty() && pending.isEmpty()) {
+                break;
+            }
+            double next = Double.POSITIVE_INFINITY;
+            if (!running.isEmpty()) next = running.peekKey();
+            if (!pending.isEmpty() && freeCount > 0) next = Math.min(next, pending.peekKey());
+            now = Math.max(now, next);
+
+            while (!running.isEmpty() && running.peekKey() <= now) {
+                int u = running.pop();
+                finished++;
+                freeWorkers[freeCount++] = assignedWorker[u];
+                makespan = Math.max(makespan, finishTimes[u]);
+
+                cursor.reset(u);
+                while (cursor.next()) {
+                    metrics.recordEdgeProcessed();
+                    int s = cursor.target();
+                    release[s] = Math.max(release[s], finishTimes[u] + cursor.weight());
+                    if (--inDegree[s] == 0) {
+                        pending.push(s, release[s]);
+                    }
+                }
+            }
+        }
+
+        metrics.stopTimer();
+        return finished == n;
+    }
+
+    public int getWorkers() { return workers; }
+    public double getMakespan() { return makespan; }
+    public double getCriticalPathBound() { return criticalPathBound; }
+    public double getWorkBound() { return totalWork / workers; }
+    public double getUtilization() { return makespan > 0 ? totalWork / (makespan * workers) : 0.0; }
+    public double[] getStartTimes() { return startTimes; }
+    public double[] getFinishTimes() { return finishTimes; }
+    public int[] getAssignedWorkers() { return assignedWorker; }
+    public Metrics getMetrics() { return metrics; }
+    public static LatencyHistogram getLatencyHistogram() { return LATENCY; }
+}
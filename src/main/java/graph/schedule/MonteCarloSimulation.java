@@ -0,0 +1,249 @@
+package graph.schedule;
+
+import graph.core.CSRGraph;
+import graph.core.GraphView;
+import graph.core.LatencyHistogram;
+import graph.core.Metrics;
+import graph.topo.TopoSortKahn;
+import graph.util.TopK;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo completion times of a task DAG under uncertain durations. Vertex
+ * weights are nominal durations and edge weights minimum lags, as in
+ * {@link ListScheduler}; every task without predecessors starts at time 0.
+ *
+ * Scenarios are processed in blocks laid out scenario-major: the start and
+ * finish times of one task in all scenarios of a block are adjacent, so one
+ * topological sweep serves the whole block with tight inner loops over
+ * scenarios. A backward sweep marks the tasks with zero slack, which gives each
+ * task's criticality index (the share of scenarios in which it is critical).
+ * Blocks are split across threads; each block draws from its own
+ * SplittableRandom split off the seed up front, so results do not depend on
+ * the thread count. They do depend on the block size, which decides how the
+ * random streams map to scenarios, so only runs with the same
+ * {@link #blockSize(int)} (or the same graph and default) are comparable.
+ */
+public class MonteCarloSimulation {
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+    // per-thread workspace target for choosing the block size
+    private static final long WORKSPACE_BYTES = 32L << 20;
+    private static final int MAX_BLOCK = 64;
+
+    /** Samples the duration of one task in one scenario. */
+    public interface DurationModel {
+        double sample(int task, double nominal, SplittableRandom random);
+    }
+
+    private final CSRGraph graph;
+    private final CSRGraph incoming;
+    private final int[] topoOrder;
+    private final Metrics metrics;
+    private int blockSize; // 0 picks one from WORKSPACE_BYTES
+
+    public MonteCarloSimulation(GraphView dag) {
+        this.graph = dag instanceof CSRGraph ? (CSRGraph) dag : CSRGraph.copyOf(dag);
+        this.incoming = graph.reverseView();
+        TopoSortKahn sorter = new TopoSortKahn(graph);
+        if (!sorter.computeTopologicalOrder()) {
+            throw new IllegalArgumentException("Completion-time simulation requires a DAG");
+        }
+        this.topoOrder = sorter.getTopologicalOrderArray();
+        this.metrics = new Metrics(LATENCY);
+    }
+
+    public MonteCarloSimulation blockSize(int scenariosPerBlock) {
+        if (scenariosPerBlock < 0) throw new IllegalArgumentException("Negative block size: " + scenariosPerBlock);
+        this.blockSize = scenariosPerBlock;
+        return this;
+    }
+
+    // nominal * factor, factor triangular on [low, high] with mode 1, e.g. (0.8, 1.5) for overrun-prone tasks
+    public static DurationModel triangular(double low, double high) {
+        if (!(low <= 1.0 && 1.0 <= high && low >= 0)) {
+            throw new IllegalArgumentException("Need 0 <= low <= 1 <= high: " + low + ", " + high);
+        }
+        double split = high == low ? 0.5 : (1.0 - low) / (high - low);
+        return (task, nominal, random) -> {
+            double u = random.nextDouble();
+            double factor = u < split
+                    ? low + Math.sqrt(u * (high - low) * (1.0 - low))
+                    : high - Math.sqrt((1 - u) * (high - low) * (high - 1.0));
+            return nominal * factor;
+        };
+    }
+
+    public static DurationModel uniform(double spread) {
+        if (spread < 0 || spread > 1) throw new IllegalArgumentException("Spread must be in [0, 1]: " + spread);
+        return (task, nominal, random) -> nominal * (1.0 + spread * (2 * random.nextDouble() - 1));
+    }
+
+    public Result simulate(int scenarios, DurationModel model, long seed) {
+        return simulate(scenarios, model, seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    public Result simulate(int scenarios, DurationModel model, long seed, int threads) {
+        if (scenarios < 1) throw new IllegalArgumentException("At least one scenario is required: " + scenarios);
+        if (threads < 1) throw new IllegalArgumentException("At least one thread is required: " + threads);
+
+        metrics.reset();
+        metrics.startTimer();
+
+        int n = graph.getNumVertices();
+        int block = blockSize > 0 ? blockSize
+                : (int) Math.max(1, Math.min(MAX_BLOCK, WORKSPACE_BYTES / (16L * Math.max(1, n))));
+        block = Math.min(block, scenarios);
+        if ((long) n * block > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Block of " + block + " scenarios is too large for " + n + " tasks");
+        }
+        int blocks = (scenarios + block - 1) / block;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[blocks];
+        for (int b = 0; b < blocks; b++) randoms[b] = root.split();
+
+        double[] completion = new double[scenarios];
+        int parts = Math.min(threads, blocks);
+        long[][] criticalCounts = new long[parts][];
+        int scenariosPerBlock = block;
+        if (parts == 1) {
+            criticalCounts[0] = runBlocks(0, blocks, scenariosPerBlock, scenarios, model, randoms, completion);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parts);
+            try {
+                pool.submit(() -> IntStream.range(0, parts).parallel().forEach(p -> criticalCounts[p] = runBlocks(
+                        (int) ((long) blocks * p / parts), (int) ((long) blocks * (p + 1) / parts),
+                        scenariosPerBlock, scenarios, model, randoms, completion))).join();
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        double[] criticality = new double[n];
+        for (long[] counts : criticalCounts) {
+            for (int v = 0; v < n; v++) criticality[v] += counts[v];
+        }
+        for (int v = 0; v < n; v++) criticality[v] /= scenarios;
+        metrics.addEdgesProcessed(2L * graph.getNumEdges() * scenarios);
+
+        metrics.stopTimer();
+        return new Result(completion, criticality);
+    }
+
+    private long[] runBlocks(int fromBlock, int toBlock, int block, int scenarios, DurationModel model,
+                             SplittableRandom[] randoms, double[] completion) {
+        int n = graph.getNumVertices();
+        double[] start = new double[n * block];
+        double[] finish = new double[n * block];
+        boolean[] critical = new boolean[n * block];
+        double[] makespan = new double[block];
+        long[] criticalCount = new long[n];
+
+        for (int b = fromBlock; b < toBlock; b++) {
+            int first = b * block;
+            int width = Math.min(block, scenarios - first);
+            SplittableRandom random = randoms[b];
+            Arrays.fill(makespan, 0, width, 0.0);
+
+            // forward: start = max over predecessors of finish + lag, finish = start + sampled duration
+            for (int v : topoOrder) {
+                int base = v * block;
+                Arrays.fill(start, base, base + width, 0.0);
+                for (int e = 0; e < incoming.getOutDegree(v); e++) {
+                    int ubase = incoming.getEdgeTarget(v, e) * block;
+                    double lag = incoming.getEdgeWeight(v, e);
+                    for (int s = 0; s < width; s++) {
+                        start[base + s] = Math.max(start[base + s], finish[ubase + s] + lag);
+                    }
+                }
+                double nominal = graph.getVertexWeight(v);
+                for (int s = 0; s < width; s++) {
+                    finish[base + s] = start[base + s] + model.sample(v, nominal, random);
+                    makespan[s] = Math.max(makespan[s], finish[base + s]);
+                }
+            }
+
+            // backward: critical if it ends the project or feeds a critical successor with no slack
+            for (int i = topoOrder.length - 1; i >= 0; i--) {
+                int v = topoOrder[i];
+                int base = v * block;
+                for (int s = 0; s < width; s++) critical[base + s] = finish[base + s] == makespan[s];
+                for (int e = 0; e < graph.getOutDegree(v); e++) {
+                    int wbase = graph.getEdgeTarget(v, e) * block;
+                    double lag = graph.getEdgeWeight(v, e);
+                    for (int s = 0; s < width; s++) {
+                        critical[base + s] |= critical[wbase + s] && finish[base + s] + lag == start[wbase + s];
+                    }
+                }
+                int count = 0;
+                for (int s = 0; s < width; s++) if (critical[base + s]) count++;
+                criticalCount[v] += count;
+            }
+            System.arraycopy(makespan, 0, completion, first, width);
+        }
+        return criticalCount;
+    }
+
+    public int getBlockSize() { return blockSize; }
+    public Metrics getMetrics() { return metrics; }
+    public static LatencyHistogram getLatencyHistogram() { return LATENCY; }
+
+    /** Completion-time distribution and per-task criticality of one simulation. */
+    public static class Result {
+        private final double[] completion;
+        private final double[] sorted;
+        private final double[] criticality;
+
+        Result(double[] completion, double[] criticality) {
+            this.completion = completion;
+            this.sorted = completion.clone();
+            Arrays.sort(sorted);
+            this.criticality = criticality;
+        }
+
+        public int getScenarios() { return completion.length; }
+        // in scenario order, e.g. to pair with other per-scenario outputs
+        public double[] getCompletionTimes() { return completion.clone(); }
+        public double getCriticality(int task) { return criticality[task]; }
+        public double[] getCriticalityIndices() { return criticality.clone(); }
+        public double getMin() { return sorted[0]; }
+        public double getMax() { return sorted[sorted.length - 1]; }
+
+        public double getMean() {
+            double sum = 0;
+            for (double c : completion) sum += c;
+            return sum / completion.length;
+        }
+
+        public double getStdDev() {
+            double mean = getMean();
+            double sum = 0;
+            for (double c : completion) sum += (c - mean) * (c - mean);
+            return Math.sqrt(sum / completion.length);
+        }
+
+        // nearest-rank percentile, p in (0, 100]
+        public double getPercentile(double p) {
+            if (p <= 0 || p > 100) throw new IllegalArgumentException("Percentile must be in (0, 100]: " + p);
+            return sorted[(int) Math.ceil(p / 100.0 * sorted.length) - 1];
+        }
+
+        // share of scenarios finishing by the deadline
+        public double getProbabilityWithin(double deadline) {
+            int lo = 0;
+            int hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] <= deadline) lo = mid + 1; else hi = mid;
+            }
+            return (double) lo / sorted.length;
+        }
+
+        // task ids by decreasing criticality, ties by id
+        public int[] getMostCritical(int k) {
+            return TopK.largest(criticality, k);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package graph.stream;
+
+import graph.core.CSRGraph;
+import graph.core.GraphBuilder;
+import graph.core.LatencyHistogram;
+import graph.core.Metrics;
+import graph.dagsp.DAGLongestPath;
+import graph.dagsp.PathResult;
+import java.util.*;
+
+/**
+ * Critical path over the tasks that arrived in the last {@code windowLength} time
+ * units of an event stream. Live tasks sit in a ring buffer in arrival order and
+ * leave it oldest first, either when they expire or when the window is full;
+ * their out-edges live in a fixed-size arena with a free list, so memory is
+ * bounded by maxTasks and maxDependencies however long the stream runs.
+ *
+ * A dependency is admitted only if its prerequisite arrived before its dependent
+ * and both are still live. Arrival order is then a topological order of the
+ * window, and since edges leave with their (older) source, eviction never leaves
+ * dangling edges. Events only update the buffers in O(1) amortized; the path is
+ * recomputed lazily with {@link DAGLongestPath} on the first query after a change.
+ * Per-event latencies are recorded in {@link #getEventLatency()}, which is also
+ * the histogram of {@link #getMetrics()}.
+ */
+public class SlidingWindowCriticalPath {
+    private final long windowLength;
+    private final int maxTasks;
+    private final Metrics metrics;
+    private final LatencyHistogram eventLatency = new LatencyHistogram();
+
+    // ring buffer of live tasks, oldest at head
+    private final int[] taskId;
+    private final long[] arrival;
+    private final long[] sequence;
+    private final double[] duration;
+    private final int[] firstEdge;
+    private final Map<Integer, Integer> slotOf;
+    private int head;
+    private int liveTasks;
+    private long nextSequence;
+
+    // edge arena: singly linked out-lists threaded through parallel arrays
+    private final int[] edgeTarget;
+    private final double[] edgeLag;
+    private final int[] edgeNext;
+    private int freeEdge;
+    private int liveEdges;
+
+    private long currentTime = Long.MIN_VALUE;
+    private long expiredTasks;
+    private long forcedEvictions;
+    private long droppedTasks;
+    private long droppedDependencies;
+    private long recomputations;
+    private double lastRecomputeMillis;
+    private PathResult cached;
+
+    public SlidingWindowCriticalPath(long windowLength, int maxTasks, int maxDependencies) {
+        if (windowLength <= 0 || maxTasks <= 0 || maxDependencies < 0) {
+            throw new IllegalArgumentException("Invalid window: length " + windowLength + ", "
+                    + maxTasks + " tasks, " + maxDependencies + " dependencies");
+        }
+        this.windowLength = windowLength;
+        this.maxTasks = maxTasks;
+        this.metrics = new Metrics(eventLatency);
+        this.taskId = new int[maxTasks];
+        this.arrival = new long[maxTasks];
+        this.sequence = new long[maxTasks];
+        this.duration = new double[maxTasks];
+        this.firstEdge = new int[maxTasks];
+        this.slotOf = new HashMap<>(Math.min(maxTasks, 1 << 16) * 2);
+        this.edgeTarget = new int[maxDependencies];
+        this.edgeLag = new double[maxDependencies];
+        this.edgeNext = new int[maxDependencies];
+        for (int e = 0; e < maxDependencies; e++) edgeNext[e] = e + 1 < maxDependencies ? e + 1 : -1;
+        this.freeEdge = maxDependencies > 0 ? 0 : -1;
+    }
+
+    // the metrics timer spans one event, so each event lands in the latency histogram
+    public void accept(StreamEvent event) {
+        metrics.startTimer();
+        advanceTo(event.getTime());
+        if (event.getKind() == StreamEvent.Kind.TASK) {
+            admitTask(event.getTask(), event.getValue());
+        } else {
+            admitDependency(event.getTask(), event.getDependent(), event.getValue());
+        }
+        metrics.recordOperation();
+        metrics.stopTimer();
+    }
+
+    // moves the clock forward and evicts every task that arrived at or before time - windowLength
+    public void advanceTo(long time) {
+        if (time < currentTime) {
+            throw new IllegalArgumentException("Event time " + time + " is before stream time " + currentTime);
+        }
+        currentTime = time;
+        while (liveTasks > 0 && arrival[head] <= time - windowLength) {
+            evictOldest();
+            expiredTasks++;
+        }
+    }
+
+    public PathResult getCriticalPath() {
+        if (cached == null) recompute();
+        return cached;
+    }
+
+    public double getCriticalPathLength() { return getCriticalPath().getLength(); }
+    public int getLiveTasks() { return liveTasks; }
+    public int getLiveDependencies() { return liveEdges; }
+    public long getCurrentTime() { return currentTime; }
+    public long getExpiredTasks() { return expiredTasks; }
+    public long getForcedEvictions() { return forcedEvictions; }
+    public long getDroppedTasks() { return droppedTasks; }
+    public long getDroppedDependencies() { return droppedDependencies; }
+    public long getRecomputations() { return recomputations; }
+    public double getLastRecomputeMillis() { return lastRecomputeMillis; }
+    public Metrics getMetrics() { return metrics; }
+    public LatencyHistogram getEventLatency() { return eventLatency; }
+
+    private void admitTask(int id, double taskDuration) {
+        if (slotOf.containsKey(id)) {
+            droppedTasks++;
+            return;
+        }
+        if (liveTasks == maxTasks) {
+            evictOldest();
+            forcedEvictions++;
+        }
+        int slot = (head + liveTasks) % maxTasks;
+        taskId[slot] = id;
+        arrival[slot] = currentTime;
+        sequence[slot] = nextSequence++;
+        duration[slot] = taskDuration;
+        firstEdge[slot] = -1;
+        slotOf.put(id, slot);
+        liveTasks++;
+        cached = null;
+    }
+
+    private void admitDependency(int from, int to, double lag) {
+        Integer u = slotOf.get(from);
+        Integer v = slotOf.get(to);
+        if (u == null || v == null || sequence[u] >= sequence[v] || freeEdge < 0) {
+            droppedDependencies++;
+            return;
+        }
+        int e = freeEdge;
+        freeEdge = edgeNext[e];
+        edgeTarget[e] = v;
+        edgeLag[e] = lag;
+        edgeNext[e] = firstEdge[u];
+        firstEdge[u] = e;
+        liveEdges++;
+        cached = null;
+    }
+
+    private void evictOldest() {
+        int slot = head;
+        for (int e = firstEdge[slot]; e >= 0; ) {
+            int next = edgeNext[e];
+            edgeNext[e] = freeEdge;
+            freeEdge = e;
+            liveEdges--;
+            e = next;
+        }
+        slotOf.remove(taskId[slot]);
+        head = (head + 1) % maxTasks;
+        liveTasks--;
+        cached = null;
+    }
+
+    // window position i is the i-th oldest live task, so positions are already topologically ordered
+    private void recompute() {
+        long start = System.nanoTime();
+        recomputations++;
+        if (liveTasks == 0) {
+            cached = new PathResult(Collections.emptyList(), 0.0);
+            lastRecomputeMillis = (System.nanoTime() - start) / 1_000_000.0;
+            return;
+        }
+
+        GraphBuilder builder = new GraphBuilder(liveTasks, liveEdges);
+        long oldest = sequence[head];
+        for (int i = 0; i < liveTasks; i++) {
+            int slot = (head + i) % maxTasks;
+            builder.setVertexWeight(i, duration[slot]);
+            for (int e = firstEdge[slot]; e >= 0; e = edgeNext[e]) {
+                builder.addEdge(i, (int) (sequence[edgeTarget[e]] - oldest), edgeLag[e]);
+            }
+        }
+        CSRGraph window = builder.build();
+        metrics.addEdgesProcessed(window.getNumEdges());
+
+        double[] tail = new DAGLongestPath(window).computeTailLengths();
+        int best = 0;
+        for (int i = 1; i < liveTasks; i++) {
+            if (tail[i] > tail[best]) best = i;
+        }
+
+        // re-take the argmax computeTailLengths took (a path only continues through a positive tail)
+        List<Integer> path = new ArrayList<>();
+        for (int u = best; u >= 0; ) {
+            path.add(taskId[(head + u) % maxTasks]);
+            int next = -1;
+            double rest = 0.0;
+            for (int k = 0; k < window.getOutDegree(u); k++) {
+                int v = window.getEdgeTarget(u, k);
+                double candidate = window.getEdgeWeight(u, k) + tail[v];
+                if (candidate > rest) {
+                    rest = candidate;
+                    next = v;
+                }
+            }
+            u = next;
+        }
+        cached = new PathResult(path, tail[best]);
+        lastRecomputeMillis = (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,45 @@
+package graph.stream;
+
+/**
+ * One record of the time-ordered event stream: a task with its duration, or a
+ * dependency "from must finish (plus lag) before to starts" between two tasks.
+ */
+public final class StreamEvent {
+    public enum Kind { TASK, DEPENDENCY }
+
+    private final Kind kind;
+    private final long time;
+    private final int task;
+    private final int dependent;
+    private final double value;
+
+    private StreamEvent(Kind kind, long time, int task, int dependent, double value) {
+        this.kind = kind;
+        this.time = time;
+        this.task = task;
+        this.dependent = dependent;
+        this.value = value;
+    }
+
+    public static StreamEvent task(long time, int taskId, double duration) {
+        return new StreamEvent(Kind.TASK, time, taskId, -1, duration);
+    }
+
+    public static StreamEvent dependency(long time, int fromTask, int toTask, double lag) {
+        return new StreamEvent(Kind.DEPENDENCY, time, fromTask, toTask, lag);
+    }
+
+    public Kind getKind() { return kind; }
+    public long getTime() { return time; }
+    public int getTask() { return task; }
+    public int getDependent() { return dependent; }
+    // duration of a TASK, lag of a DEPENDENCY
+    public double getValue() { return value; }
+
+    @Override
+    public String toString() {
+        return kind == Kind.TASK
+                ? String.format("Task{t=%d, id=%d, duration=%.2f}", time, task, value)
+                : String.format("Dependency{t=%d, %d -> %d, lag=%.2f}", time, task, dependent, value);
+    }
+}
@@ -1,23 +1,30 @@
 package graph.topo;
 
-import graph.core.Graph;
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.LatencyHistogram;
 import graph.core.Metrics;
 import java.util.*;
 
 public class TopoSortDFS {
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+
     private static final int WHITE = 0;
     private static final int GRAY = 1;
     private static final int BLACK = 2;
 
-    private Graph graph;
+    private GraphView graph;
     private Metrics metrics;
     private int[] color;
-    private Stack<Integer> stack;
+    private int[] finished;
+    private int finishedCount;
+    private int[] callStack;
+    private EdgeCursor[] frames;
     private boolean hasCycle;
 
-    public TopoSortDFS(Graph graph) {
+    public TopoSortDFS(GraphView graph) {
         this.graph = graph;
-        this.metrics = new Metrics();
+        this.metrics = new Metrics(LATENCY);
     }
 
     public boolean computeTopologicalOrder() {
@@ -26,7 +33,10 @@ public class TopoSortDFS {
 
         int n = graph.getNumVertices();
         color = new int[n];
-        stack = new Stack<>();
+        finished = new int[n];
+        finishedCount = 0;
+        callStack = new int[n];
+        frames = new EdgeCursor[n];
         hasCycle = false;
 
         for (int i = 0; i < n; i++) {
@@ -39,36 +49,57 @@ public class TopoSortDFS {
             }
         }
 
+        callStack = null;
+        frames = null;
         metrics.stopTimer();
         return !hasCycle;
     }
 
-    private void dfsVisit(int u) {
+    private void dfsVisit(int root) {
+        int depth = 0;
+        frame(depth, root);
+        callStack[depth++] = root;
         metrics.recordDFSVisit();
-        color[u] = GRAY;
-
-        for (Graph.Edge edge : graph.getAdjacent(u)) {
-            metrics.recordEdgeProcessed();
-            metrics.recordOperation();
-
-            int v = edge.to;
-
-            if (color[v] == WHITE) {
-                dfsVisit(v);
-            } else if (color[v] == GRAY) {
-                hasCycle = true;
-                return;
+        color[root] = GRAY;
+
+        while (depth > 0) {
+            int u = callStack[depth - 1];
+
+            if (frames[depth - 1].next()) {
+                metrics.recordEdgeProcessed();
+                metrics.recordOperation();
+
+                int v = frames[depth - 1].target();
+
+                if (color[v] == WHITE) {
+                    frame(depth, v);
+                    callStack[depth++] = v;
+                    metrics.recordDFSVisit();
+                    color[v] = GRAY;
+                } else if (color[v] == GRAY) {
+                    hasCycle = true;
+                    return;
+                }
+                continue;
             }
+
+            depth--;
+            color[u] = BLACK;
+            finished[finishedCount++] = u;
         }
+    }
 
-        color[u] = BLACK;
-        stack.push(u);
+    // one cursor per DFS depth, created on first use and reset for each vertex pushed there
+    private EdgeCursor frame(int depth, int vertex) {
+        if (frames[depth] == null) frames[depth] = graph.newEdgeCursor();
+        frames[depth].reset(vertex);
+        return frames[depth];
     }
 
     public List<Integer> getTopologicalOrder() {
-        List<Integer> order = new ArrayList<>();
-        while (!stack.isEmpty()) {
-            order.add(stack.pop());
+        List<Integer> order = new ArrayList<>(finishedCount);
+        for (int i = finishedCount - 1; i >= 0; i--) {
+            order.add(finished[i]);
         }
         return order;
     }
@@ -76,4 +107,8 @@ public class TopoSortDFS {
     public Metrics getMetrics() {
         return metrics;
     }
-}
\ No newline at end of file
+
+    public static LatencyHistogram getLatencyHistogram() {
+        return LATENCY;
+    }
+}
@@ -1,59 +1,80 @@
 package graph.topo;
-import graph.core.Graph;
+import graph.core.AlgorithmPhaseEvent;
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.core.LatencyHistogram;
 import graph.core.Metrics;
 import java.util.*;
 
 public class TopoSortKahn {
-    private Graph graph;
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+
+    private GraphView graph;
     private Metrics metrics;
-    private List<Integer> topologicalOrder;
+    private int[] order;
+    private int orderSize;
 
-    public TopoSortKahn(Graph graph) {
+    public TopoSortKahn(GraphView graph) {
         this.graph = graph;
-        this.metrics = new Metrics();
+        this.metrics = new Metrics(LATENCY);
     }
 
     public boolean computeTopologicalOrder() {
+        AlgorithmPhaseEvent event = AlgorithmPhaseEvent.start("TopoSortKahn", "computeTopologicalOrder", graph);
         metrics.reset();
         metrics.startTimer();
 
         int n = graph.getNumVertices();
         int[] inDegree = new int[n];
+        EdgeCursor cursor = graph.newEdgeCursor();
 
         for (int v = 0; v < n; v++) {
-            for (Graph.Edge e : graph.getAdjacent(v)) {
-                inDegree[e.to]++;
+            cursor.reset(v);
+            while (cursor.next()) {
+                inDegree[cursor.target()]++;
                 metrics.recordEdgeProcessed();
             }
         }
 
-        Queue<Integer> queue = new LinkedList<>();
+        // every vertex is enqueued at most once, so the order array doubles as the FIFO queue
+        order = new int[n];
+        int tail = 0;
         for (int i = 0; i < n; i++) {
             if (inDegree[i] == 0) {
-                queue.offer(i);
+                order[tail++] = i;
             }
         }
 
-        topologicalOrder = new ArrayList<>();
-        while (!queue.isEmpty()) {
-            int u = queue.poll();
+        int head = 0;
+        while (head < tail) {
+            int u = order[head++];
             metrics.recordOperation();
-            topologicalOrder.add(u);
 
-            for (Graph.Edge edge : graph.getAdjacent(u)) {
+            cursor.reset(u);
+            while (cursor.next()) {
                 metrics.recordEdgeProcessed();
-                inDegree[edge.to]--;
-                if (inDegree[edge.to] == 0) {
-                    queue.offer(edge.to);
+                int to = cursor.target();
+                inDegree[to]--;
+                if (inDegree[to] == 0) {
+                    order[tail++] = to;
                 }
             }
         }
+        orderSize = tail;
 
         metrics.stopTimer();
+        event.finish(metrics);
+
+        return orderSize == n;
+    }
 
-        return topologicalOrder.size() == n;
+    public List<Integer> getTopologicalOrder() {
+        List<Integer> topologicalOrder = new ArrayList<>(orderSize);
+        for (int i = 0; i < orderSize; i++) topologicalOrder.add(order[i]);
+        return topologicalOrder;
     }
 
-    public List<Integer> getTopologicalOrder() { return topologicalOrder; }
+    public int[] getTopologicalOrderArray() { return Arrays.copyOf(order, orderSize); }
     public Metrics getMetrics() { return metrics; }
-}
\ No newline at end of file
+    public static LatencyHistogram getLatencyHistogram() { return LATENCY; }
+}
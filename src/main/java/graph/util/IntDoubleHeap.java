@@ -0,0 +1,78 @@
+package graph.util;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of int items keyed by double, stored in two parallel arrays.
+ * Equal keys are ordered by item so results are deterministic.
+ */
+public class IntDoubleHeap {
+    private int[] items;
+    private double[] keys;
+    private int size;
+
+    public IntDoubleHeap(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.items = new int[capacity];
+        this.keys = new double[capacity];
+    }
+
+    public void push(int item, double key) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        items[size] = item;
+        keys[size] = key;
+        siftUp(size++);
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        int top = items[0];
+        size--;
+        if (size > 0) {
+            items[0] = items[size];
+            keys[0] = keys[size];
+            siftDown(0);
+        }
+        return top;
+    }
+
+    public int peek() { return items[0]; }
+    public double peekKey() { return keys[0]; }
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public void clear() { size = 0; }
+
+    private boolean less(int i, int j) {
+        return keys[i] < keys[j] || (keys[i] == keys[j] && items[i] < items[j]);
+    }
+
+    private void swap(int i, int j) {
+        int item = items[i]; items[i] = items[j]; items[j] = item;
+        double key = keys[i]; keys[i] = keys[j]; keys[j] = key;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(i, parent)) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) break;
+            int child = (left + 1 < size && less(left + 1, left)) ? left + 1 : left;
+            if (!less(child, i)) break;
+            swap(i, child);
+            i = child;
+        }
+    }
+}
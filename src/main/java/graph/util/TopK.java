@@ -0,0 +1,31 @@
+package graph.util;
+
+/**
+ * Top-k selection over a score array with a bounded {@link IntDoubleHeap} of k
+ * entries, so only O(n log k) work is done instead of sorting every index.
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    // indices of the k largest scores, largest first; equal scores keep the smaller index
+    public static int[] largest(double[] score, int k) {
+        if (k < 0) throw new IllegalArgumentException("Negative top-k count: " + k);
+        int limit = Math.min(k, score.length);
+        if (limit == 0) return new int[0];
+        // min-heap on the negated index breaks ties towards the smaller index at the root
+        IntDoubleHeap heap = new IntDoubleHeap(limit + 1);
+        for (int i = 0; i < score.length; i++) {
+            if (heap.size() == limit) {
+                double worst = heap.peekKey();
+                if (score[i] < worst || (score[i] == worst && i > -heap.peek())) continue;
+                heap.pop();
+            }
+            heap.push(-i, score[i]);
+        }
+        int[] top = new int[limit];
+        for (int i = limit - 1; i >= 0; i--) top[i] = -heap.pop();
+        return top;
+    }
+}
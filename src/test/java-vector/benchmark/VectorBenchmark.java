@@ -0,0 +1,25 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.dagsp.DAGLongestPath;
+import graph.dagsp.VectorizedDAGLongestPath;
+
+// run with: java --add-modules jdk.incubator.vector -cp target/classes benchmark.VectorBenchmark
+public class VectorBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 50_000);
+        BenchmarkRunner runner = new BenchmarkRunner(3, 7);
+        System.out.println("Scalar vs Vector API longest path, " + VectorizedDAGLongestPath.getLaneCount()
+                + " double lanes\n");
+
+        for (int degree : new int[]{4, 32, 128}) {
+            CSRGraph g = CSRGraph.copyOf(SyntheticGraphs.randomDAG(n, degree, 5));
+            g.reverseView();
+            System.out.println("avg in-degree " + degree + " (n=" + n + ", m=" + g.getNumEdges() + ")");
+            runner.report("scalar push (DAGLongestPath)", () -> new DAGLongestPath(g).computeLongestPaths(0));
+            runner.report("vectorized pull", () -> new VectorizedDAGLongestPath(g).computeLongestPaths(0));
+            System.out.println();
+        }
+    }
+}
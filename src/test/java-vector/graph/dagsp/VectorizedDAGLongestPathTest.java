@@ -0,0 +1,28 @@
+package graph.dagsp;
+
+import benchmark.SyntheticGraphs;
+import graph.core.CSRGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VectorizedDAGLongestPathTest {
+
+    @Test
+    public void testMatchesScalarLongestPath() {
+        CSRGraph[] graphs = {
+                CSRGraph.copyOf(SyntheticGraphs.randomDAG(3_000, 40, 1)),
+                CSRGraph.copyOf(SyntheticGraphs.layeredDAG(5_000, 8, 12, 2))
+        };
+        for (CSRGraph g : graphs) {
+            DAGLongestPath scalar = new DAGLongestPath(g);
+            scalar.computeLongestPaths(0);
+            VectorizedDAGLongestPath vectorized = new VectorizedDAGLongestPath(g);
+            vectorized.computeLongestPaths(0);
+
+            assertArrayEquals(scalar.getLongestPaths(), vectorized.getLongestPaths());
+            assertArrayEquals(scalar.getPredecessors(), vectorized.getPredecessors());
+            int last = g.getNumVertices() - 1;
+            assertEquals(scalar.reconstructPath(last).getPath(), vectorized.reconstructPath(last).getPath());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.core.Graph;
+import graph.core.GraphView;
+import graph.core.OffHeapGraph;
+import graph.dagsp.DAGShortestPaths;
+import graph.scc.TarjanSCC;
+import graph.topo.TopoSortKahn;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class BackendBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 200_000);
+        int degree = BenchmarkRunner.intArg(args, 1, 4);
+        BenchmarkRunner runner = new BenchmarkRunner(3, 7);
+
+        Graph heap = SyntheticGraphs.randomDAG(n, degree, 42);
+        Map<String, GraphView> backends = new LinkedHashMap<>();
+        backends.put("Graph (HashMap)", heap);
+        backends.put("CSRGraph", CSRGraph.copyOf(heap));
+        backends.put("OffHeapGraph", OffHeapGraph.copyOf(heap));
+
+        System.out.println("Backend comparison: n=" + n + ", m=" + heap.getNumEdges() + "\n");
+        for (Map.Entry<String, GraphView> entry : backends.entrySet()) {
+            GraphView g = entry.getValue();
+            System.out.println(entry.getKey());
+            runner.report("TarjanSCC.detectSCCs", () -> new TarjanSCC(g).detectSCCs());
+            runner.report("TopoSortKahn.computeTopologicalOrder", () -> new TopoSortKahn(g).computeTopologicalOrder());
+            runner.report("DAGShortestPaths.computeShortestPaths", () -> new DAGShortestPaths(g).computeShortestPaths(0));
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.core.EdgeCursor;
+import graph.core.GraphView;
+import graph.reach.BatchReachability;
+import graph.scc.TarjanSCC;
+import java.util.Random;
+
+public class BatchReachabilityBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 200_000);
+        int queries = BenchmarkRunner.intArg(args, 1, 1024);
+        BenchmarkRunner runner = new BenchmarkRunner(1, 3);
+
+        CSRGraph g = CSRGraph.copyOf(SyntheticGraphs.layeredDAG(n, 32, 3, 5));
+        int[] sources = new Random(9).ints(queries, 0, n).toArray();
+        TarjanSCC scc = new TarjanSCC(g);
+        scc.detectSCCs();
+
+        System.out.println("Downstream impact of " + queries + " sources: n=" + n + ", m=" + g.getNumEdges()
+                + ", components=" + scc.getComponents().size() + "\n");
+        runner.report("BFS per source", () -> bfsCounts(g, sources));
+        for (int words : new int[]{1, 4, 16}) {
+            BatchReachability batch = new BatchReachability(g, scc, words);
+            runner.report("bit-parallel, " + (64 * words) + " sources/pass",
+                    () -> batch.countReachable(sources, BatchReachability.Direction.DOWNSTREAM));
+        }
+    }
+
+    private static int[] bfsCounts(GraphView g, int[] sources) {
+        int n = g.getNumVertices();
+        int[] seen = new int[n];
+        int[] queue = new int[n];
+        int[] counts = new int[sources.length];
+        EdgeCursor cursor = g.newEdgeCursor();
+        for (int i = 0; i < sources.length; i++) {
+            int stamp = i + 1;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = sources[i];
+            seen[sources[i]] = stamp;
+            while (head < tail) {
+                cursor.reset(queue[head++]);
+                while (cursor.next()) {
+                    int v = cursor.target();
+                    if (seen[v] != stamp) {
+                        seen[v] = stamp;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+            counts[i] = tail;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,36 @@
+package benchmark;
+
+import java.util.Arrays;
+
+public class BenchmarkRunner {
+    private final int warmupRuns;
+    private final int measuredRuns;
+
+    public BenchmarkRunner(int warmupRuns, int measuredRuns) {
+        this.warmupRuns = warmupRuns;
+        this.measuredRuns = measuredRuns;
+    }
+
+    public double measureMillis(Runnable task) {
+        for (int i = 0; i < warmupRuns; i++) task.run();
+
+        double[] times = new double[measuredRuns];
+        for (int i = 0; i < measuredRuns; i++) {
+            long start = System.nanoTime();
+            task.run();
+            times[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(times);
+        return times[measuredRuns / 2];
+    }
+
+    public double report(String label, Runnable task) {
+        double median = measureMillis(task);
+        System.out.println(String.format("  %-40s %10.3f ms (median of %d)", label, median, measuredRuns));
+        return median;
+    }
+
+    static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
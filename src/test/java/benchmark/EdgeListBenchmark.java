@@ -0,0 +1,48 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.core.EdgeListLoader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class EdgeListBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int n = BenchmarkRunner.intArg(args, 0, 1_000_000);
+        int edges = BenchmarkRunner.intArg(args, 1, 10_000_000);
+        BenchmarkRunner runner = new BenchmarkRunner(1, 3);
+
+        Path file = Files.createTempFile("edges", ".csv");
+        try {
+            Random r = new Random(3);
+            try (BufferedWriter out = Files.newBufferedWriter(file)) {
+                out.write("from,to,weight\n");
+                for (int i = 0; i < edges; i++) {
+                    out.write(r.nextInt(n) + "," + r.nextInt(n) + "," + (r.nextInt(2000) / 100.0) + "\n");
+                }
+            }
+            double megabytes = Files.size(file) / (1024.0 * 1024);
+            System.out.println(String.format("CSV edge list ingest: %d edges, %.1f MB, %d cores%n",
+                    edges, megabytes, Runtime.getRuntime().availableProcessors()));
+
+            for (int threads = 1; threads <= Math.max(4, Runtime.getRuntime().availableProcessors()); threads *= 2) {
+                int t = threads;
+                double ms = runner.report(t + " thread(s)", () -> load(file, t, n));
+                System.out.println(String.format("  %-40s %10.1f MB/s", "", megabytes / (ms / 1000)));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static CSRGraph load(Path file, int threads, int n) {
+        try {
+            return EdgeListLoader.load(file, threads, n);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.core.Graph;
+import graph.core.GraphBuilder;
+import java.util.Random;
+
+public class GraphBuilderBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 500_000);
+        int m = BenchmarkRunner.intArg(args, 1, 5_000_000);
+        BenchmarkRunner runner = new BenchmarkRunner(1, 3);
+
+        Random r = new Random(5);
+        int[] from = new int[m];
+        int[] to = new int[m];
+        double[] weights = new double[m];
+        for (int i = 0; i < m; i++) {
+            from[i] = r.nextInt(n);
+            to[i] = r.nextInt(n);
+            weights[i] = 1 + r.nextInt(20);
+        }
+        System.out.println("Graph construction: " + n + " vertices, " + m + " edges\n");
+
+        runner.report("Graph.addEdge", () -> addAll(n, from, to, weights));
+        runner.report("GraphBuilder bulk, keep all", () -> new GraphBuilder(n, m)
+                .addEdges(from, to, weights).build());
+        runner.report("GraphBuilder bulk, merge min", () -> new GraphBuilder(n, m)
+                .duplicatePolicy(GraphBuilder.DuplicatePolicy.MIN).addEdges(from, to, weights).build());
+        runner.report("Graph.addEdge + CSRGraph.copyOf", () -> CSRGraph.copyOf(addAll(n, from, to, weights)));
+    }
+
+    private static Graph addAll(int n, int[] from, int[] to, double[] weights) {
+        Graph g = new Graph(n);
+        for (int i = 0; i < from.length; i++) g.addEdge(from[i], to[i], weights[i]);
+        return g;
+    }
+}
@@ -0,0 +1,72 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.core.MemoryEstimator;
+import graph.dagsp.DAGShortestPaths;
+import graph.dagsp.HubLabelIndex;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class HubLabelBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int n = BenchmarkRunner.intArg(args, 0, 30_000);
+        int queries = BenchmarkRunner.intArg(args, 1, 1_000_000);
+        BenchmarkRunner runner = new BenchmarkRunner(1, 3);
+
+        CSRGraph g = CSRGraph.copyOf(SyntheticGraphs.randomDAG(n, 3, 13));
+        g.reverseView();
+        HubLabelIndex index = new HubLabelIndex(g);
+        System.out.println("Hub labels on a random DAG: n=" + n + ", m=" + g.getNumEdges() + "\n");
+        System.out.println(String.format("  %-40s %10.1f ms", "build", index.getBuildMillis()));
+        System.out.println(String.format("  %-40s %10.1f entries per vertex and direction", "label size",
+                index.getAverageLabelSize()));
+        System.out.println(String.format("  %-40s %13s", "index size", MemoryEstimator.format(index.getMemoryBytes())));
+
+        Path file = Files.createTempFile("hubs", ".bin");
+        try {
+            runner.report("save", () -> save(index, file));
+            System.out.println(String.format("  %-40s %13s", "file size", MemoryEstimator.format(Files.size(file))));
+            runner.report("load", () -> load(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        Random r = new Random(14);
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            sources[q] = r.nextInt(n);
+            targets[q] = r.nextInt(n);
+        }
+        double[] sink = new double[1];
+        double labelMs = runner.report(queries + " label queries", () -> {
+            for (int q = 0; q < queries; q++) sink[0] += index.distance(sources[q], targets[q]);
+        });
+        DAGShortestPaths sp = new DAGShortestPaths(g);
+        int pruned = Math.max(1, queries / 1_000);
+        double prunedMs = runner.report(pruned + " pruned traversal queries", () -> {
+            for (int q = 0; q < pruned; q++) sink[0] += sp.shortestPath(sources[q], targets[q]).getLength();
+        });
+        System.out.println(String.format("%n  per query: %.3f us with labels, %.3f us by traversal",
+                labelMs * 1000 / queries, prunedMs * 1000 / pruned));
+    }
+
+    private static void save(HubLabelIndex index, Path file) {
+        try {
+            index.save(file);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void load(Path file) {
+        try {
+            HubLabelIndex.load(file);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.schedule.MonteCarloSimulation;
+
+public class MonteCarloBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 100_000);
+        int scenarios = BenchmarkRunner.intArg(args, 1, 1_000);
+        int threads = Runtime.getRuntime().availableProcessors();
+        BenchmarkRunner runner = new BenchmarkRunner(1, 3);
+
+        CSRGraph g = CSRGraph.copyOf(SyntheticGraphs.randomDAG(n, 3, 21));
+        MonteCarloSimulation.DurationModel model = MonteCarloSimulation.triangular(0.8, 1.5);
+        System.out.println("Monte Carlo completion times: n=" + n + ", m=" + g.getNumEdges()
+                + ", " + scenarios + " scenarios, " + threads + " threads\n");
+
+        for (int block : new int[]{1, 8, 32, 64}) {
+            MonteCarloSimulation simulation = new MonteCarloSimulation(g).blockSize(block);
+            double ms = runner.report("block of " + block, () -> simulation.simulate(scenarios, model, 7, threads));
+            System.out.println(String.format("  %-40s %10.1f scenarios/s", "", scenarios * 1000 / ms));
+        }
+
+        MonteCarloSimulation.Result result = new MonteCarloSimulation(g).simulate(scenarios, model, 7, threads);
+        System.out.println(String.format("%n  completion: mean %.1f, sd %.1f, p50 %.1f, p90 %.1f, p99 %.1f",
+                result.getMean(), result.getStdDev(), result.getPercentile(50), result.getPercentile(90),
+                result.getPercentile(99)));
+        int top = result.getMostCritical(1)[0];
+        System.out.println(String.format("  most critical task: %d (index %.3f)", top, result.getCriticality(top)));
+    }
+}
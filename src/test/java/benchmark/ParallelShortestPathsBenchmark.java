@@ -0,0 +1,25 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.dagsp.DAGShortestPaths;
+
+public class ParallelShortestPathsBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 2_000_000);
+        int width = BenchmarkRunner.intArg(args, 1, 20_000);
+        BenchmarkRunner runner = new BenchmarkRunner(2, 5);
+
+        CSRGraph g = CSRGraph.copyOf(SyntheticGraphs.layeredDAG(n, width, 4, 7));
+        g.reverseView();
+        System.out.println("Level-parallel DAG shortest paths: n=" + n + ", m=" + g.getNumEdges()
+                + ", layer width=" + width + ", cores=" + Runtime.getRuntime().availableProcessors() + "\n");
+
+        runner.report("sequential push", () -> new DAGShortestPaths(g).computeShortestPaths(0));
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors() * 2; threads *= 2) {
+            int t = threads;
+            runner.report("level-parallel pull, " + t + " threads",
+                    () -> new DAGShortestPaths(g).computeShortestPathsParallel(0, t));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.dagsp.DAGShortestPaths;
+import java.util.Random;
+
+public class PointToPointBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 1_000_000);
+        int width = BenchmarkRunner.intArg(args, 1, 1_000);
+        int queries = BenchmarkRunner.intArg(args, 2, 200);
+        int span = BenchmarkRunner.intArg(args, 3, 20); // layers between source and target
+        BenchmarkRunner runner = new BenchmarkRunner(1, 3);
+
+        CSRGraph g = CSRGraph.copyOf(SyntheticGraphs.layeredDAG(n, width, 3, 11));
+        g.reverseView();
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        Random r = new Random(12);
+        for (int q = 0; q < queries; q++) {
+            sources[q] = r.nextInt(n - span * width);
+            targets[q] = sources[q] - sources[q] % width + span * width + r.nextInt(width);
+        }
+        System.out.println("Point-to-point DAG shortest paths: n=" + n + ", m=" + g.getNumEdges()
+                + ", " + queries + " queries spanning " + span + " layers\n");
+
+        DAGShortestPaths full = new DAGShortestPaths(g);
+        double fullMs = runner.report("computeShortestPaths + reconstructPath", () -> {
+            for (int q = 0; q < queries; q++) {
+                full.computeShortestPaths(sources[q]);
+                full.reconstructPath(targets[q]);
+            }
+        });
+        DAGShortestPaths pruned = new DAGShortestPaths(g);
+        pruned.shortestPath(0, 0); // builds the cached topological order
+        long[] edges = new long[1];
+        double prunedMs = runner.report("shortestPath (interval + reach pruning)", () -> {
+            edges[0] = 0;
+            for (int q = 0; q < queries; q++) {
+                pruned.shortestPath(sources[q], targets[q]);
+                edges[0] += pruned.getQueryMetrics().getEdgesProcessed();
+            }
+        });
+        System.out.println(String.format("%n  per query: %.3f ms vs %.3f ms (%.0fx), %d edges touched on average",
+                fullMs / queries, prunedMs / queries, fullMs / prunedMs, edges[0] / queries));
+    }
+}
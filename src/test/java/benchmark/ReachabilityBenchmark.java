@@ -0,0 +1,37 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.core.Graph;
+import graph.reach.ReachabilityIndex;
+import graph.reach.TransitiveReduction;
+
+public class ReachabilityBenchmark {
+
+    public static void main(String[] args) {
+        long budget = 512L << 20;
+        System.out.println("Reachability index and transitive reduction (budget " + (budget >> 20) + " MB)\n");
+        System.out.println(String.format("%-28s | %8s | %8s | %8s | %12s | %10s | %10s",
+                "DAG", "V", "E", "Chains", "Index bytes", "Build ms", "Removed E"));
+        System.out.println("-".repeat(100));
+
+        for (int n : new int[]{10_000, 100_000, 1_000_000}) {
+            run("layered pipeline (width 16)", SyntheticGraphs.layeredDAG(n, 16, 3, 1), budget);
+            run("random forward edges", SyntheticGraphs.randomDAG(n, 3, 2), budget);
+        }
+    }
+
+    private static void run(String label, Graph dag, long budget) {
+        CSRGraph g = CSRGraph.copyOf(dag);
+        try {
+            ReachabilityIndex index = new ReachabilityIndex(g, budget);
+            TransitiveReduction reduction = new TransitiveReduction(g, index);
+            reduction.reduce();
+            System.out.println(String.format("%-28s | %8d | %8d | %8d | %12d | %10.1f | %10d",
+                    label, g.getNumVertices(), g.getNumEdges(), index.getNumChains(), index.getMemoryBytes(),
+                    index.getMetrics().getExecutionTimeMillis(), reduction.getRemovedEdgeCount()));
+        } catch (IllegalStateException e) {
+            System.out.println(String.format("%-28s | %8d | %8d | %s", label, g.getNumVertices(),
+                    g.getNumEdges(), e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.core.EdgeCursor;
+import graph.core.Graph;
+import graph.core.GraphView;
+import graph.dagsp.DAGShortestPaths;
+import graph.reorder.VertexOrdering;
+import graph.scc.TarjanSCC;
+import java.util.Random;
+
+// Hardware cache-miss counts need an external profiler, e.g.
+// perf stat -e cache-misses java -cp target/classes benchmark.ReorderBenchmark
+public class ReorderBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 1_000_000);
+        int band = BenchmarkRunner.intArg(args, 1, 8);
+        BenchmarkRunner runner = new BenchmarkRunner(3, 7);
+
+        // banded DAG with good natural locality, then ids scrambled the way feeds deliver them
+        Random r = new Random(42);
+        Graph banded = new Graph(n);
+        for (int u = 0; u < n; u++) {
+            for (int k = 1; k <= 3 && u + k < n; k++) {
+                banded.addEdge(u, u + 1 + r.nextInt(Math.min(band, n - u - 1)), 0.5 + r.nextDouble());
+            }
+        }
+        int[] shuffle = new int[n];
+        for (int i = 0; i < n; i++) shuffle[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = r.nextInt(i + 1);
+            int t = shuffle[i]; shuffle[i] = shuffle[j]; shuffle[j] = t;
+        }
+        CSRGraph scrambled = VertexOrdering.fromPermutation(shuffle).apply(banded);
+        int source = shuffle[0];
+
+        System.out.println("Reordering benchmark: n=" + n + ", m=" + scrambled.getNumEdges() + "\n");
+        run(runner, "scrambled ids", scrambled, source);
+
+        long start = System.nanoTime();
+        VertexOrdering rcm = VertexOrdering.reverseCuthillMcKee(scrambled);
+        CSRGraph rcmGraph = rcm.apply(scrambled);
+        System.out.println(String.format("RCM relabel build: %.1f ms", (System.nanoTime() - start) / 1e6));
+        run(runner, "RCM", rcmGraph, rcm.toReordered(source));
+
+        VertexOrdering bfs = VertexOrdering.breadthFirst(scrambled);
+        run(runner, "BFS", bfs.apply(scrambled), bfs.toReordered(source));
+
+        start = System.nanoTime();
+        VertexOrdering topo = VertexOrdering.topological(scrambled);
+        CSRGraph topoGraph = topo.apply(scrambled);
+        System.out.println(String.format("Topological relabel build: %.1f ms", (System.nanoTime() - start) / 1e6));
+        run(runner, "topological", topoGraph, topo.toReordered(source));
+    }
+
+    private static void run(BenchmarkRunner runner, String label, GraphView g, int source) {
+        System.out.println(label + String.format(" (mean |u-v| edge span: %.1f)", meanEdgeSpan(g)));
+        runner.report("TarjanSCC.detectSCCs", () -> new TarjanSCC(g).detectSCCs());
+        runner.report("DAGShortestPaths.computeShortestPaths", () -> new DAGShortestPaths(g).computeShortestPaths(source));
+        System.out.println();
+    }
+
+    private static double meanEdgeSpan(GraphView g) {
+        EdgeCursor cursor = g.newEdgeCursor();
+        double total = 0;
+        for (int u = 0; u < g.getNumVertices(); u++) {
+            cursor.reset(u);
+            while (cursor.next()) total += Math.abs(cursor.target() - u);
+        }
+        return g.getNumEdges() > 0 ? total / g.getNumEdges() : 0.0;
+    }
+}
@@ -0,0 +1,62 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.core.Graph;
+import graph.core.GraphView;
+import graph.scc.CondensationGraph;
+import graph.scc.SCCAlgorithmType;
+import graph.scc.TarjanSCC;
+import graph.topo.TopoSortKahn;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class SCCBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 500_000);
+        BenchmarkRunner runner = new BenchmarkRunner(3, 7);
+
+        Map<String, Graph> shapes = new LinkedHashMap<>();
+        shapes.put("random sparse (giant SCC)", SyntheticGraphs.randomDigraph(n, 2, 1));
+        shapes.put("random very sparse (many small SCCs)", SyntheticGraphs.randomDigraph(n, 1, 2));
+        shapes.put("DAG (all singletons)", SyntheticGraphs.randomDAG(n, 3, 3));
+        shapes.put("clustered cycles of 50", clusteredCycles(n, 50, 4));
+
+        System.out.println("SCC algorithm comparison: n=" + n + "\n");
+        for (Map.Entry<String, Graph> shape : shapes.entrySet()) {
+            GraphView g = CSRGraph.copyOf(shape.getValue());
+            g.reverseView();
+            System.out.println(shape.getKey() + " (m=" + g.getNumEdges() + ")");
+            for (SCCAlgorithmType type : SCCAlgorithmType.values()) {
+                runner.report(type.toString(), () -> type.create(g).detectSCCs());
+            }
+            TarjanSCC tarjan = new TarjanSCC(g);
+            tarjan.detectSCCs();
+            int cores = Runtime.getRuntime().availableProcessors();
+            runner.report("condensation, 1 thread", () -> CondensationGraph.build(
+                    g, tarjan.getComponentIds(), tarjan.getComponents(), 1));
+            runner.report("condensation, " + cores + " thread(s)", () -> CondensationGraph.build(
+                    g, tarjan.getComponentIds(), tarjan.getComponents(), cores));
+            CondensationGraph condensation = tarjan.getCondensationGraph();
+            runner.report("condensation topo order via Kahn", () -> new TopoSortKahn(condensation)
+                    .computeTopologicalOrder());
+            runner.report("condensation topo order via SCC ids", tarjan::getCondensationTopologicalOrder);
+            System.out.println();
+        }
+    }
+
+    private static Graph clusteredCycles(int n, int clusterSize, long seed) {
+        Graph g = new Graph(n);
+        Random r = new Random(seed);
+        for (int v = 0; v < n; v++) {
+            int base = v - v % clusterSize;
+            int next = (v + 1 < Math.min(base + clusterSize, n)) ? v + 1 : base;
+            g.addEdge(v, next, 1.0);
+            if (base + clusterSize < n && r.nextInt(4) == 0) {
+                g.addEdge(v, base + clusterSize + r.nextInt(Math.min(clusterSize, n - base - clusterSize)), 1.0);
+            }
+        }
+        return g;
+    }
+}
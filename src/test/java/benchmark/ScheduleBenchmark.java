@@ -0,0 +1,28 @@
+package benchmark;
+
+import graph.core.CSRGraph;
+import graph.schedule.ListScheduler;
+
+public class ScheduleBenchmark {
+
+    public static void main(String[] args) {
+        int n = BenchmarkRunner.intArg(args, 0, 1_000_000);
+        CSRGraph g = CSRGraph.copyOf(SyntheticGraphs.randomDAG(n, 3, 42));
+
+        System.out.println("List scheduling: n=" + n + ", m=" + g.getNumEdges() + "\n");
+        System.out.println(String.format("%8s | %12s | %12s | %12s | %8s | %10s",
+                "Workers", "Makespan", "CP bound", "Work/K", "Ratio", "Time (ms)"));
+        System.out.println("-".repeat(80));
+
+        for (int workers : new int[]{1, 4, 16, 64, 256, 1024, 16384}) {
+            ListScheduler scheduler = new ListScheduler(g, workers);
+            scheduler.schedule();
+            scheduler.schedule();
+            double lowerBound = Math.max(scheduler.getCriticalPathBound(), scheduler.getWorkBound());
+            System.out.println(String.format("%8d | %12.1f | %12.1f | %12.1f | %8.3f | %10.1f",
+                    workers, scheduler.getMakespan(), scheduler.getCriticalPathBound(),
+                    scheduler.getWorkBound(), scheduler.getMakespan() / lowerBound,
+                    scheduler.getMetrics().getExecutionTimeMillis()));
+        }
+    }
+}
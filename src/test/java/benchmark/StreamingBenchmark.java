@@ -0,0 +1,48 @@
+package benchmark;
+
+import graph.core.LatencyHistogram;
+import graph.stream.SlidingWindowCriticalPath;
+import graph.stream.StreamEvent;
+import java.util.Random;
+
+public class StreamingBenchmark {
+
+    public static void main(String[] args) {
+        int events = BenchmarkRunner.intArg(args, 0, 2_000_000);
+        int window = BenchmarkRunner.intArg(args, 1, 50_000);
+        int queryEvery = BenchmarkRunner.intArg(args, 2, 10_000);
+
+        SlidingWindowCriticalPath analysis = new SlidingWindowCriticalPath(window, window, 4 * window);
+        Random r = new Random(9);
+        double queryMillis = 0;
+        int queries = 0;
+        long start = System.nanoTime();
+        for (int t = 0, id = 0; t < events; t++) {
+            if (t % 3 == 0 || id < 2) {
+                analysis.accept(StreamEvent.task(t, id++, 1 + r.nextInt(20)));
+            } else {
+                int to = id - 1 - r.nextInt(Math.min(id - 1, 64));
+                int from = to - 1 - r.nextInt(Math.min(to, 256) + 1);
+                analysis.accept(StreamEvent.dependency(t, Math.max(from, 0), to, r.nextInt(3)));
+            }
+            if (t % queryEvery == queryEvery - 1) {
+                long q = System.nanoTime();
+                analysis.getCriticalPathLength();
+                queryMillis += (System.nanoTime() - q) / 1_000_000.0;
+                queries++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        LatencyHistogram latency = analysis.getEventLatency();
+        System.out.println("Sliding-window critical path: " + events + " events, window " + window + "\n");
+        System.out.println(String.format("  %-40s %10.0f events/s", "throughput (incl. queries)", events / seconds));
+        System.out.println(String.format("  %-40s %10.3f us", "mean event latency", latency.getMeanNanos() / 1e3));
+        System.out.println(String.format("  %-40s %10.3f us", "p99 event latency", latency.getPercentileNanos(99) / 1e3));
+        System.out.println(String.format("  %-40s %10.3f us", "max event latency", latency.getMaxNanos() / 1e3));
+        System.out.println(String.format("  %-40s %10.3f ms", "mean query (lazy recompute)", queryMillis / queries));
+        System.out.println(String.format("  %-40s %10d / %d", "live tasks / dependencies",
+                analysis.getLiveTasks(), analysis.getLiveDependencies()));
+        System.out.println(String.format("  %-40s %10d", "dropped dependencies", analysis.getDroppedDependencies()));
+    }
+}
@@ -0,0 +1,49 @@
+package benchmark;
+
+import graph.core.Graph;
+import java.util.Random;
+
+public class SyntheticGraphs {
+
+    public static Graph randomDAG(int n, int avgOutDegree, long seed) {
+        Graph g = new Graph(n);
+        Random r = new Random(seed);
+        for (int v = 0; v < n; v++) g.setVertexWeight(v, 0.5 + r.nextDouble());
+        for (int u = 0; u < n - 1; u++) {
+            int degree = r.nextInt(2 * avgOutDegree + 1);
+            for (int k = 0; k < degree; k++) {
+                int v = u + 1 + r.nextInt(n - u - 1);
+                g.addEdge(u, v, 0.5 + r.nextDouble() * 1.5);
+            }
+        }
+        return g;
+    }
+
+    public static Graph randomDigraph(int n, int avgOutDegree, long seed) {
+        Graph g = new Graph(n);
+        Random r = new Random(seed);
+        for (int v = 0; v < n; v++) g.setVertexWeight(v, 0.5 + r.nextDouble());
+        for (int u = 0; u < n; u++) {
+            int degree = r.nextInt(2 * avgOutDegree + 1);
+            for (int k = 0; k < degree; k++) {
+                g.addEdge(u, r.nextInt(n), 0.5 + r.nextDouble() * 1.5);
+            }
+        }
+        return g;
+    }
+
+    // tasks arranged in layers of fixed width, each depending on a few tasks of nearby earlier layers
+    public static Graph layeredDAG(int n, int width, int degree, long seed) {
+        Graph g = new Graph(n);
+        Random r = new Random(seed);
+        for (int v = width; v < n; v++) {
+            int layerStart = v - v % width;
+            for (int k = 0; k < degree; k++) {
+                int back = 1 + r.nextInt(3);
+                int from = layerStart - back * width + r.nextInt(width);
+                if (from >= 0) g.addEdge(from, v, 1.0);
+            }
+        }
+        return g;
+    }
+}
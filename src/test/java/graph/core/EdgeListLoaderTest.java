@@ -0,0 +1,61 @@
+package graph.core;
+
+import benchmark.SyntheticGraphs;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EdgeListLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testParallelLoadMatchesSource() throws Exception {
+        Graph g = SyntheticGraphs.randomDigraph(60_000, 4, 8);
+        Path file = dir.resolve("edges.csv");
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("from,to,weight\n");
+            for (int u = 0; u < g.getNumVertices(); u++) {
+                for (int i = 0; i < g.getOutDegree(u); i++) {
+                    out.write(u + "," + g.getEdgeTarget(u, i) + "," + g.getEdgeWeight(u, i) + "\n");
+                }
+            }
+        }
+        assertTrue(Files.size(file) > 4 << 20);
+
+        for (int threads : new int[]{1, 3, 8}) {
+            CSRGraph loaded = EdgeListLoader.load(file, threads, g.getNumVertices());
+            assertEquals(g.getNumEdges(), loaded.getNumEdges());
+            for (int u = 0; u < g.getNumVertices(); u++) {
+                assertEquals(g.getOutDegree(u), loaded.getOutDegree(u));
+                for (int i = 0; i < g.getOutDegree(u); i++) {
+                    assertEquals(g.getEdgeTarget(u, i), loaded.getEdgeTarget(u, i));
+                    assertEquals(g.getEdgeWeight(u, i), loaded.getEdgeWeight(u, i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSeparatorsCommentsAndErrors() throws Exception {
+        Path file = dir.resolve("edges.tsv");
+        Files.writeString(file, "# exported\r\n0\t1\t2.5\r\n\n1 2\n2;0;-1e-3\n 3 , 1 , 4 \n");
+        CSRGraph g = EdgeListLoader.load(file);
+        assertEquals(4, g.getNumVertices());
+        assertEquals(4, g.getNumEdges());
+        assertEquals(2.5, g.getEdgeWeight(0, 0));
+        assertEquals(1.0, g.getEdgeWeight(1, 0));
+        assertEquals(-1e-3, g.getEdgeWeight(2, 0));
+        assertEquals(4.0, g.getEdgeWeight(3, 0));
+        assertTrue(EdgeListLoader.isEdgeList("roads.TSV"));
+
+        Files.writeString(file, "0,1\n1,x\n");
+        assertThrows(IllegalArgumentException.class, () -> EdgeListLoader.load(file));
+        Files.writeString(file, "0,7\n");
+        assertThrows(IllegalArgumentException.class, () -> EdgeListLoader.load(file, 1, 5));
+    }
+}
@@ -0,0 +1,74 @@
+package graph.core;
+
+import benchmark.SyntheticGraphs;
+import graph.dagsp.DAGLongestPath;
+import graph.scc.TarjanSCC;
+import graph.topo.TopoSortKahn;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderEventsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testPhaseAndLoadEventsWithSampleSettings() throws Exception {
+        Path csv = dir.resolve("edges.csv");
+        try (BufferedWriter out = Files.newBufferedWriter(csv)) {
+            for (int v = 0; v < 999; v++) out.write(v + "," + (v + 1) + ",2.0\n");
+        }
+        Configuration settings = Configuration.create(Paths.get("src/main/resources/smartcity.jfc"));
+        Path file = dir.resolve("run.jfr");
+        try (Recording recording = new Recording(settings)) {
+            recording.start();
+            CSRGraph g = EdgeListLoader.load(csv, 1, -1);
+            new TarjanSCC(g).detectSCCs();
+            new TopoSortKahn(g).computeTopologicalOrder();
+            new DAGLongestPath(g).computeLongestPaths(0);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, RecordedEvent> phases = new HashMap<>();
+        RecordedEvent load = null;
+        for (RecordedEvent e : RecordingFile.readAllEvents(file)) {
+            String type = e.getEventType().getName();
+            if (type.equals("smartcity.AlgorithmPhase")) phases.put(e.getString("algorithm"), e);
+            if (type.equals("smartcity.GraphLoad")) load = e;
+        }
+        assertEquals(Set.of("TarjanSCC", "TopoSortKahn", "DAGLongestPath"), phases.keySet());
+        RecordedEvent tarjan = phases.get("TarjanSCC");
+        assertEquals(1000, tarjan.getInt("vertices"));
+        assertEquals(999L, tarjan.getLong("edgesProcessed"));
+        assertTrue(tarjan.getLong("allocatedBytes") >= 0);
+        assertNotNull(load);
+        assertEquals("edge list", load.getString("format"));
+        assertEquals(999L, load.getLong("edges"));
+        assertEquals(Files.size(csv), load.getLong("fileBytes"));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        Path file = dir.resolve("default.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            new TarjanSCC(SyntheticGraphs.randomDAG(100, 2, 1)).detectSCCs();
+            recording.stop();
+            recording.dump(file);
+        }
+        for (RecordedEvent e : RecordingFile.readAllEvents(file)) {
+            assertFalse(e.getEventType().getName().startsWith("smartcity."));
+        }
+    }
+}
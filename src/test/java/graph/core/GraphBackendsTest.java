@@ -0,0 +1,110 @@
+package graph.core;
+
+import benchmark.SyntheticGraphs;
+import graph.dagsp.DAGLongestPath;
+import graph.dagsp.DAGShortestPaths;
+import graph.scc.Component;
+import graph.scc.TarjanSCC;
+import graph.topo.TopoSortDFS;
+import graph.topo.TopoSortKahn;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphBackendsTest {
+
+    private List<GraphView> backends(Graph g) {
+        return Arrays.asList(g, CSRGraph.copyOf(g), OffHeapGraph.copyOf(g));
+    }
+
+    private List<List<Integer>> components(GraphView g) {
+        TarjanSCC scc = new TarjanSCC(g);
+        scc.detectSCCs();
+        List<List<Integer>> result = new ArrayList<>();
+        for (Component c : scc.getComponents()) result.add(c.getVertices());
+        return result;
+    }
+
+    @Test
+    public void testSCCIdenticalAcrossBackends() {
+        Graph g = SyntheticGraphs.randomDigraph(500, 2, 7);
+        List<List<Integer>> expected = components(g);
+        for (GraphView backend : backends(g)) {
+            assertEquals(expected, components(backend));
+        }
+    }
+
+    @Test
+    public void testTopoOrderIdenticalAcrossBackends() {
+        Graph g = SyntheticGraphs.randomDAG(500, 3, 11);
+        TopoSortKahn kahn = new TopoSortKahn(g);
+        assertTrue(kahn.computeTopologicalOrder());
+        TopoSortDFS dfs = new TopoSortDFS(g);
+        assertTrue(dfs.computeTopologicalOrder());
+
+        for (GraphView backend : backends(g)) {
+            TopoSortKahn k = new TopoSortKahn(backend);
+            assertTrue(k.computeTopologicalOrder());
+            assertEquals(kahn.getTopologicalOrder(), k.getTopologicalOrder());
+
+            TopoSortDFS d = new TopoSortDFS(backend);
+            assertTrue(d.computeTopologicalOrder());
+            assertEquals(dfs.getTopologicalOrder(), d.getTopologicalOrder());
+        }
+    }
+
+    @Test
+    public void testPathsIdenticalAcrossBackends() {
+        Graph g = SyntheticGraphs.randomDAG(500, 3, 13);
+        DAGShortestPaths sp = new DAGShortestPaths(g);
+        sp.computeShortestPaths(0);
+        DAGLongestPath lp = new DAGLongestPath(g);
+        lp.computeLongestPaths(0);
+
+        for (GraphView backend : backends(g)) {
+            DAGShortestPaths s = new DAGShortestPaths(backend);
+            s.computeShortestPaths(0);
+            assertArrayEquals(sp.getDistances(), s.getDistances());
+            assertEquals(sp.reconstructPath(499).getPath(), s.reconstructPath(499).getPath());
+
+            DAGLongestPath l = new DAGLongestPath(backend);
+            l.computeLongestPaths(0);
+            assertArrayEquals(lp.getLongestPaths(), l.getLongestPaths());
+            assertEquals(lp.reconstructPath(499).getPath(), l.reconstructPath(499).getPath());
+        }
+    }
+
+    @Test
+    public void testReverseViewIdenticalAcrossBackends() {
+        Graph g = SyntheticGraphs.randomDigraph(200, 3, 17);
+        Graph copy = g.reverse();
+
+        for (GraphView backend : backends(g)) {
+            GraphView rev = backend.reverseView();
+            assertSame(rev, backend.reverseView());
+            assertEquals(g.getNumEdges(), rev.getNumEdges());
+            for (int v = 0; v < 200; v++) {
+                assertEquals(copy.getOutDegree(v), rev.getOutDegree(v));
+                for (int i = 0; i < rev.getOutDegree(v); i++) {
+                    assertEquals(copy.getEdgeTarget(v, i), rev.getEdgeTarget(v, i));
+                    assertEquals(copy.getEdgeWeight(v, i), rev.getEdgeWeight(v, i));
+                }
+                assertEquals(g.getVertexWeight(v), rev.getVertexWeight(v));
+            }
+        }
+
+        GraphView cached = g.reverseView();
+        g.addEdge(0, 1, 1.0);
+        assertNotSame(cached, g.reverseView());
+        assertEquals(g.getNumEdges(), g.reverseView().getNumEdges());
+    }
+
+    @Test
+    public void testDeepChainDoesNotOverflow() {
+        Graph g = new Graph(200_000);
+        for (int i = 0; i < 199_999; i++) g.addEdge(i, i + 1, 1.0);
+        TarjanSCC scc = new TarjanSCC(CSRGraph.copyOf(g));
+        scc.detectSCCs();
+        assertEquals(200_000, scc.getComponents().size());
+    }
+}
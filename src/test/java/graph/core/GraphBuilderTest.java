@@ -0,0 +1,73 @@
+package graph.core;
+
+import benchmark.SyntheticGraphs;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphBuilderTest {
+
+    @Test
+    public void testBulkBuildMatchesGraph() {
+        Graph g = SyntheticGraphs.randomDigraph(2_000, 5, 11);
+        int m = (int) g.getNumEdges();
+        int[] from = new int[m];
+        int[] to = new int[m];
+        double[] weights = new double[m];
+        int k = 0;
+        for (int u = 0; u < g.getNumVertices(); u++) {
+            for (int i = 0; i < g.getOutDegree(u); i++, k++) {
+                from[k] = u;
+                to[k] = g.getEdgeTarget(u, i);
+                weights[k] = g.getEdgeWeight(u, i);
+            }
+        }
+        GraphBuilder builder = new GraphBuilder(g.getNumVertices(), m);
+        builder.addEdges(from, to, weights).setVertexWeight(7, 3.5);
+        CSRGraph csr = builder.build();
+
+        assertEquals(g.getNumEdges(), csr.getNumEdges());
+        assertEquals(3.5, csr.getVertexWeight(7));
+        for (int u = 0; u < g.getNumVertices(); u++) {
+            assertEquals(g.getOutDegree(u), csr.getOutDegree(u));
+            for (int i = 0; i < g.getOutDegree(u); i++) {
+                assertEquals(g.getEdgeTarget(u, i), csr.getEdgeTarget(u, i));
+                assertEquals(g.getEdgeWeight(u, i), csr.getEdgeWeight(u, i));
+            }
+        }
+    }
+
+    @Test
+    public void testDuplicatePolicies() {
+        int[] from = {0, 0, 1, 0, 0, 1};
+        int[] to = {1, 2, 2, 1, 1, 2};
+        double[] w = {4, 1, 2, 9, 2, 5};
+
+        assertEquals(6, build(GraphBuilder.DuplicatePolicy.KEEP_ALL, from, to, w).getNumEdges());
+        assertRows(build(GraphBuilder.DuplicatePolicy.FIRST, from, to, w), 4, 1, 2);
+        assertRows(build(GraphBuilder.DuplicatePolicy.MIN, from, to, w), 2, 1, 2);
+        assertRows(build(GraphBuilder.DuplicatePolicy.MAX, from, to, w), 9, 1, 5);
+        assertRows(build(GraphBuilder.DuplicatePolicy.SUM, from, to, w), 15, 1, 7);
+
+        GraphBuilder builder = new GraphBuilder(2);
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(0, 2, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdges(new int[]{0}, new int[0], null));
+        assertEquals(0, builder.getEdgeCount());
+    }
+
+    private static CSRGraph build(GraphBuilder.DuplicatePolicy policy, int[] from, int[] to, double[] w) {
+        return new GraphBuilder(3).duplicatePolicy(policy).addEdges(from, to, w).build();
+    }
+
+    // rows are 0 -> {1, 2} and 1 -> {2}, in first-occurrence order
+    private static void assertRows(CSRGraph g, double w01, double w02, double w12) {
+        assertEquals(3, g.getNumEdges());
+        assertEquals(2, g.getOutDegree(0));
+        assertEquals(1, g.getEdgeTarget(0, 0));
+        assertEquals(2, g.getEdgeTarget(0, 1));
+        assertEquals(2, g.getEdgeTarget(1, 0));
+        assertEquals(w01, g.getEdgeWeight(0, 0));
+        assertEquals(w02, g.getEdgeWeight(0, 1));
+        assertEquals(w12, g.getEdgeWeight(1, 0));
+        assertEquals(0, g.getOutDegree(2));
+    }
+}
@@ -0,0 +1,58 @@
+package graph.core;
+
+import benchmark.SyntheticGraphs;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphIOTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Graph g = SyntheticGraphs.randomDigraph(50_000, 5, 4);
+        Path file = dir.resolve("graph.bin");
+        GraphIO.writeGraph(g, file);
+        CSRGraph copy = GraphIO.readGraph(file);
+
+        assertEquals(g.getNumVertices(), copy.getNumVertices());
+        assertEquals(g.getNumEdges(), copy.getNumEdges());
+        for (int v = 0; v < g.getNumVertices(); v += 97) {
+            assertEquals(g.getVertexWeight(v), copy.getVertexWeight(v));
+            assertEquals(g.getOutDegree(v), copy.getOutDegree(v));
+            for (int i = 0; i < g.getOutDegree(v); i++) {
+                assertEquals(g.getEdgeTarget(v, i), copy.getEdgeTarget(v, i));
+                assertEquals(g.getEdgeWeight(v, i), copy.getEdgeWeight(v, i));
+            }
+        }
+
+        int[] ints = new int[300_001];
+        double[] doubles = new double[300_001];
+        Arrays.setAll(ints, i -> i * 31 - 7);
+        Arrays.setAll(doubles, i -> i / 3.0);
+        GraphIO.writeInts(ints, dir.resolve("ints.bin"));
+        GraphIO.writeDoubles(doubles, dir.resolve("doubles.bin"));
+        assertArrayEquals(ints, GraphIO.readInts(dir.resolve("ints.bin")));
+        assertArrayEquals(doubles, GraphIO.readDoubles(dir.resolve("doubles.bin")));
+        assertFalse(Files.exists(dir.resolve("ints.bin.tmp")));
+    }
+
+    @Test
+    public void testRejectsTruncatedAndForeignFiles() throws IOException {
+        Path file = dir.resolve("ints.bin");
+        GraphIO.writeInts(new int[1000], file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(IOException.class, () -> GraphIO.readInts(file));
+        assertThrows(IOException.class, () -> GraphIO.readDoubles(dir.resolve("ints.bin")));
+
+        GraphIO.writeDoubles(new double[3], file);
+        assertThrows(IOException.class, () -> GraphIO.readInts(file));
+    }
+}
@@ -0,0 +1,59 @@
+package graph.core;
+
+import graph.scc.TarjanSCC;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testPercentilesWithinBucketError() {
+        LatencyHistogram h = new LatencyHistogram();
+        long[] values = new long[100_000];
+        Random r = new Random(4);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(r.nextDouble() * 20); // 1 ns .. ~0.5 s, log-uniform
+            h.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double p : new double[]{50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long reported = h.getPercentileNanos(p);
+            assertTrue(reported >= exact && reported <= exact * 1.04 + 1, p + ": " + exact + " vs " + reported);
+        }
+        assertEquals(values[values.length - 1], h.getPercentileNanos(100));
+        assertEquals(values[values.length - 1], h.getMaxNanos());
+
+        for (long v = 0; v < 1 << 20; v += 7) {
+            int b = LatencyHistogram.bucketOf(v);
+            assertTrue(v <= LatencyHistogram.upperBoundOf(b));
+            assertTrue(b == 0 || v > LatencyHistogram.upperBoundOf(b - 1));
+        }
+        assertEquals(LatencyHistogram.bucketOf(Long.MAX_VALUE), LatencyHistogram.bucketOf(1L << 50));
+    }
+
+    @Test
+    public void testConcurrentRecordingAndMetricsHook() throws Exception {
+        LatencyHistogram h = new LatencyHistogram();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 1; i <= 50_000; i++) h.record(i);
+            }));
+        }
+        for (Future<?> f : futures) f.get();
+        pool.shutdown();
+        assertEquals(200_000, h.getCount());
+        assertEquals(4 * 50_000L * 50_001 / 2, h.getTotalNanos());
+        assertEquals(50_000, h.getMaxNanos());
+
+        long before = TarjanSCC.getLatencyHistogram().getCount();
+        TarjanSCC scc = new TarjanSCC(new Graph(10));
+        scc.detectSCCs();
+        scc.detectSCCs();
+        assertTrue(TarjanSCC.getLatencyHistogram().getCount() >= before + 2);
+    }
+}
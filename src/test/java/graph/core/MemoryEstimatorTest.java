@@ -0,0 +1,66 @@
+package graph.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoryEstimatorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testEstimatesScaleAndCompactIsSmaller() {
+        long small = MemoryEstimator.graphBytes(1_000, 3_000);
+        long large = MemoryEstimator.graphBytes(1_000_000, 3_000_000);
+        assertTrue(large > 900 * small && large < 1100 * small);
+        assertTrue(MemoryEstimator.csrBytes(1_000_000, 3_000_000) < large / 3);
+        assertEquals(8L * 1_000_001 + 8L * 1_000_000 + 12L * 3_000_000, MemoryEstimator.offHeapBytes(1_000_000, 3_000_000));
+        assertTrue(MemoryEstimator.sccBytes(1_000, 1_000) > MemoryEstimator.sccBytes(1_000, 10));
+        assertEquals(512L << 20, MemoryEstimator.parseBytes("512m"));
+        assertEquals(2048, MemoryEstimator.parseBytes(" 2k"));
+        assertThrows(IllegalArgumentException.class, () -> MemoryEstimator.parseBytes("lots"));
+        assertThrows(IllegalArgumentException.class, () -> MemoryEstimator.parseBytes(" "));
+        assertThrows(IllegalArgumentException.class, () -> MemoryEstimator.parseBytes("m"));
+        assertThrows(IllegalArgumentException.class, () -> MemoryEstimator.parseBytes("9000000000000g"));
+    }
+
+    @Test
+    public void testHeaderAndCompactLoad() throws Exception {
+        Path file = dir.resolve("g.json");
+        Files.writeString(file, "{\"directed\": true, \"n\": 4, \"meta\": {\"n\": 99},\n"
+                + " \"edges\": [{\"from\": 2, \"to\": 3, \"weight\": 2.5}, {\"from\": 0, \"to\": 1},\n"
+                + "  {\"from\": 0, \"to\": 2, \"weight\": 1.5}],\n"
+                + " \"description\": \"a {tricky} [string], \\\"n\\\": 7\"}");
+
+        DataLoader.Header header = DataLoader.readHeader(file);
+        assertEquals(4, header.n);
+        assertEquals(3, header.m);
+
+        CSRGraph g = DataLoader.loadDatasetCompact(file);
+        assertEquals(4, g.getNumVertices());
+        assertEquals(3, g.getNumEdges());
+        assertEquals(2, g.getOutDegree(0));
+        assertEquals(1, g.getEdgeTarget(0, 0));
+        assertEquals(2.5, g.getEdgeWeight(2, 0));
+        assertEquals(MemoryEstimator.csrBytes(4, 3), MemoryEstimator.onHeapBytes(g));
+
+        Files.writeString(file, "{\"edges\": [{\"to\": 0, \"tags\": [1, {\"from\": 9}], \"from\": 1}],\n"
+                + " \"vertices\": [{\"id\": 1, \"weight\": 4.0}], \"n\": 2}");
+        CSRGraph late = DataLoader.loadDatasetCompact(file);
+        assertEquals(2, late.getNumVertices());
+        assertEquals(0, late.getEdgeTarget(1, 0));
+        assertEquals(1.0, late.getEdgeWeight(1, 0));
+        assertEquals(4.0, late.getVertexWeight(1));
+        assertEquals(1.0, late.getVertexWeight(0));
+
+        Files.writeString(file, "{\"n\": 2, \"edges\": [{\"from\": 0}]}");
+        assertThrows(IOException.class, () -> DataLoader.loadDatasetCompact(file));
+
+        Files.writeString(file, "{\"n\": 10, \"m\": 1000000, \"edges\": []}");
+        assertEquals(1_000_000, DataLoader.readHeader(file).m);
+    }
+}
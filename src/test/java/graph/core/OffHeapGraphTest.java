@@ -0,0 +1,120 @@
+package graph.core;
+
+import graph.dagsp.DAGLongestPath;
+import graph.scc.TarjanSCC;
+import graph.topo.TopoSortKahn;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapGraphTest {
+
+    private Graph sample() {
+        Graph g = new Graph(6);
+        g.addEdge(0, 1, 1.0);
+        g.addEdge(1, 2, 2.0);
+        g.addEdge(2, 0, 3.0);
+        g.addEdge(2, 3, 4.0);
+        g.addEdge(3, 4, 5.0);
+        g.addEdge(4, 5, 6.0);
+        g.setVertexWeight(5, 2.5);
+        return g;
+    }
+
+    @Test
+    public void testCopyMatchesHeapGraph() {
+        Graph g = sample();
+        OffHeapGraph off = OffHeapGraph.copyOf(g);
+
+        assertEquals(6, off.getNumVertices());
+        assertEquals(6, off.getNumEdges());
+        assertEquals(2, off.getOutDegree(2));
+        assertEquals(3, off.getEdgeTarget(2, 1));
+        assertEquals(4.0, off.getEdgeWeight(2, 1));
+        assertEquals(2.5, off.getVertexWeight(5));
+
+        TarjanSCC scc = new TarjanSCC(off);
+        scc.detectSCCs();
+        assertEquals(4, scc.getComponents().size());
+    }
+
+    @Test
+    public void testSmallPagesAndReverse() {
+        OffHeapGraph off = OffHeapGraph.allocate(40, 39, 4);
+        for (int i = 0; i < 39; i++) off.addEdge(i, i + 1, i);
+        off.seal();
+
+        TopoSortKahn topo = new TopoSortKahn(off);
+        assertTrue(topo.computeTopologicalOrder());
+
+        DAGLongestPath lp = new DAGLongestPath(off);
+        lp.computeLongestPaths(0);
+        assertEquals(40 + 38 * 39 / 2.0, lp.getLongestPaths()[39]);
+
+        OffHeapGraph rev = off.reverse();
+        assertEquals(1, rev.getOutDegree(39));
+        assertEquals(38, rev.getEdgeTarget(39, 0));
+        assertEquals(0, rev.getOutDegree(0));
+    }
+
+    @Test
+    public void testMappedGraph() throws Exception {
+        Path file = Files.createTempFile("offheap", ".bin");
+        try (OffHeapGraph off = OffHeapGraph.copyOf(sample(), file)) {
+            EdgeCursor cursor = off.newEdgeCursor();
+            cursor.reset(0);
+            assertTrue(cursor.next());
+            assertEquals(1, cursor.target());
+            assertFalse(cursor.next());
+            assertTrue(Files.size(file) >= 8L * 7 + 8L * 6 + 12L * 6);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testReopenAndMappedReverse(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("graph.bin");
+        try (OffHeapGraph off = OffHeapGraph.copyOf(sample(), file)) {
+            OffHeapGraph rev = off.reverseView();
+            assertTrue(rev.isMapped());
+            assertTrue(Files.exists(dir.resolve("graph.bin.reverse")));
+            assertFalse(Files.exists(dir.resolve("graph.bin.reverse.next")));
+            assertEquals(1, rev.getOutDegree(0));
+            assertEquals(2, rev.getEdgeTarget(0, 0));
+            assertEquals(4, rev.getEdgeTarget(5, 0));
+            assertThrows(IllegalStateException.class, off::reverse);
+
+            off.setVertexWeight(5, 3.0);
+            OffHeapGraph rebuilt = off.reverseView();
+            assertNotSame(rev, rebuilt);
+            assertEquals(3.0, rebuilt.getVertexWeight(5));
+            off.setVertexWeight(5, 2.5);
+        }
+
+        try (OffHeapGraph reopened = OffHeapGraph.open(file)) {
+            assertEquals(6, reopened.getNumVertices());
+            assertEquals(6, reopened.getNumEdges());
+            assertEquals(4.0, reopened.getEdgeWeight(2, 1));
+            assertEquals(2.5, reopened.getVertexWeight(5));
+            assertThrows(IllegalStateException.class, () -> reopened.addEdge(5, 0, 1.0));
+        }
+
+        OffHeapGraph unsealed = OffHeapGraph.map(dir.resolve("partial.bin"), 3, 2);
+        unsealed.addEdge(0, 1, 1.0);
+        unsealed.close();
+        assertThrows(IOException.class, () -> OffHeapGraph.open(dir.resolve("partial.bin")));
+        Files.write(dir.resolve("junk.bin"), new byte[64]);
+        assertThrows(IOException.class, () -> OffHeapGraph.open(dir.resolve("junk.bin")));
+    }
+
+    @Test
+    public void testEdgesMustBeGrouped() {
+        OffHeapGraph off = OffHeapGraph.allocate(3, 2);
+        off.addEdge(1, 2, 1.0);
+        assertThrows(IllegalStateException.class, () -> off.addEdge(0, 1, 1.0));
+    }
+}
@@ -0,0 +1,74 @@
+package graph.dagsp;
+
+import benchmark.SyntheticGraphs;
+import graph.core.Graph;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DAGKBestPathsTest {
+
+    private void enumerate(Graph g, int v, double length, List<Double> out, int target) {
+        if (v == target) out.add(length);
+        for (Graph.Edge e : g.getAdjacent(v)) {
+            enumerate(g, e.to, length + e.weight + g.getVertexWeight(e.to), out, target);
+        }
+    }
+
+    @Test
+    public void testMatchesBruteForceEnumeration() {
+        int k = 5;
+        for (long seed = 1; seed <= 10; seed++) {
+            Graph g = SyntheticGraphs.randomDAG(12, 2, seed);
+            List<Double> all = new ArrayList<>();
+            enumerate(g, 0, g.getVertexWeight(0), all, 11);
+            Collections.sort(all);
+
+            DAGKBestPaths shortest = new DAGKBestPaths(g, k, DAGKBestPaths.Objective.SHORTEST);
+            shortest.compute(0);
+            List<PathResult> paths = shortest.getPaths(11);
+            assertEquals(Math.min(k, all.size()), paths.size());
+            for (int r = 0; r < paths.size(); r++) {
+                assertEquals(all.get(r), paths.get(r).getLength(), 1e-9);
+                assertEquals(0, paths.get(r).getPath().get(0));
+            }
+
+            DAGKBestPaths longest = new DAGKBestPaths(g, k, DAGKBestPaths.Objective.LONGEST);
+            longest.compute(0);
+            paths = longest.getPaths(11);
+            for (int r = 0; r < paths.size(); r++) {
+                assertEquals(all.get(all.size() - 1 - r), paths.get(r).getLength(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testBestPathAgreesWithSinglePathSolvers() {
+        Graph g = SyntheticGraphs.randomDAG(400, 3, 4);
+        DAGLongestPath lp = new DAGLongestPath(g);
+        lp.computeLongestPaths(0);
+        DAGShortestPaths sp = new DAGShortestPaths(g);
+        sp.computeShortestPaths(0);
+
+        DAGKBestPaths longest = new DAGKBestPaths(g, 3, DAGKBestPaths.Objective.LONGEST);
+        longest.compute(0);
+        DAGKBestPaths shortest = new DAGKBestPaths(g, 3, DAGKBestPaths.Objective.SHORTEST);
+        shortest.compute(0);
+
+        for (int v = 0; v < 400; v += 37) {
+            List<PathResult> lpPaths = longest.getPaths(v);
+            List<PathResult> spPaths = shortest.getPaths(v);
+            if (lpPaths.isEmpty()) {
+                assertEquals(Double.POSITIVE_INFINITY, sp.getDistances()[v]);
+                continue;
+            }
+            assertEquals(lp.getLongestPaths()[v], lpPaths.get(0).getLength(), 1e-9);
+            assertEquals(sp.getDistances()[v], spPaths.get(0).getLength(), 1e-9);
+        }
+
+        List<PathResult> top = longest.getTopPaths();
+        assertEquals(3, top.size());
+        assertTrue(top.get(0).getLength() >= top.get(1).getLength());
+        assertTrue(top.get(1).getLength() >= top.get(2).getLength());
+    }
+}
@@ -1,4 +1,6 @@
 package graph.dagsp;
+import benchmark.SyntheticGraphs;
+import graph.core.CSRGraph;
 import graph.core.Graph;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,4 +36,64 @@ public class DAGSPTest {
         double[] dist = sp.getDistances();
         assertTrue(dist[3] < Double.POSITIVE_INFINITY);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParallelMatchesSequential() {
+        Graph[] dags = {SyntheticGraphs.layeredDAG(40_000, 4096, 3, 1), SyntheticGraphs.randomDAG(5_000, 3, 2)};
+        for (Graph dag : dags) {
+            CSRGraph g = CSRGraph.copyOf(dag);
+            DAGShortestPaths sequential = new DAGShortestPaths(g);
+            sequential.computeShortestPaths(3);
+            DAGShortestPaths parallel = new DAGShortestPaths(g);
+            parallel.computeShortestPathsParallel(3, 4);
+
+            assertArrayEquals(sequential.getDistances(), parallel.getDistances());
+            assertArrayEquals(sequential.getPredecessors(), parallel.getPredecessors());
+            assertTrue(parallel.getNumLevels() > 1);
+        }
+    }
+
+    @Test
+    public void testParallelInfiniteEdgeWeight() {
+        Graph g = new Graph(3);
+        g.addEdge(0, 1, Double.POSITIVE_INFINITY);
+        g.addEdge(0, 2, 1.0);
+        g.addEdge(2, 1, Double.POSITIVE_INFINITY);
+
+        DAGShortestPaths sp = new DAGShortestPaths(g);
+        sp.computeShortestPathsParallel(0, 2);
+        assertEquals(Double.POSITIVE_INFINITY, sp.getDistances()[1]);
+        assertEquals(-1, sp.getPredecessors()[1]);
+    }
+
+    @Test
+    public void testPointToPointMatchesFullRelaxation() {
+        Graph[] dags = {SyntheticGraphs.layeredDAG(20_000, 500, 3, 4), SyntheticGraphs.randomDAG(3_000, 3, 5)};
+        java.util.Random r = new java.util.Random(6);
+        for (Graph dag : dags) {
+            CSRGraph g = CSRGraph.copyOf(dag);
+            int n = g.getNumVertices();
+            DAGShortestPaths queries = new DAGShortestPaths(g);
+            DAGShortestPaths full = new DAGShortestPaths(g);
+            for (int q = 0; q < 60; q++) {
+                int source = r.nextInt(n);
+                int target = q % 3 == 0 ? n - 1 : r.nextInt(n); // repeated target reuses the cached region
+                full.computeShortestPaths(source);
+                PathResult expected = full.reconstructPath(target);
+                PathResult actual = queries.shortestPath(source, target);
+                assertEquals(expected.getLength(), actual.getLength());
+                assertEquals(expected.getPath(), actual.getPath());
+                assertTrue(queries.getQueryMetrics().getEdgesProcessed() <= 2 * g.getNumEdges());
+            }
+        }
+
+        CSRGraph layered = CSRGraph.copyOf(SyntheticGraphs.layeredDAG(50_000, 500, 3, 7));
+        DAGShortestPaths sp = new DAGShortestPaths(layered);
+        sp.computeShortestPaths(20_100);
+        int target = 25_000;
+        while (sp.getDistances()[target] == Double.POSITIVE_INFINITY) target++;
+        PathResult near = sp.shortestPath(20_100, target);
+        assertEquals(sp.getDistances()[target], near.getLength());
+        assertTrue(sp.getQueryMetrics().getEdgesProcessed() < layered.getNumEdges() / 10);
+    }
+}
@@ -0,0 +1,70 @@
+package graph.dagsp;
+
+import benchmark.SyntheticGraphs;
+import graph.core.CSRGraph;
+import graph.core.Graph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HubLabelIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testDistancesMatchDAGShortestPaths() {
+        Graph mixed = new Graph(400);
+        Random r = new Random(8);
+        for (int v = 0; v < 400; v++) {
+            mixed.setVertexWeight(v, r.nextInt(5));
+            for (int k = 0; k < 3; k++) {
+                int to = v + 1 + r.nextInt(30);
+                if (to < 400) mixed.addEdge(v, to, r.nextInt(11) - 3); // some negative weights
+            }
+        }
+        for (Graph dag : new Graph[]{mixed, SyntheticGraphs.randomDAG(500, 3, 9), SyntheticGraphs.layeredDAG(600, 40, 3, 2)}) {
+            HubLabelIndex index = new HubLabelIndex(dag);
+            DAGShortestPaths sp = new DAGShortestPaths(dag);
+            for (int s = 0; s < dag.getNumVertices(); s++) {
+                sp.computeShortestPaths(s);
+                double[] expected = sp.getDistances();
+                for (int t = 0; t < dag.getNumVertices(); t++) {
+                    assertEquals(expected[t], index.distance(s, t), 1e-9, s + " -> " + t);
+                }
+            }
+            assertTrue(index.getAverageLabelSize() < dag.getNumVertices() / 4.0);
+        }
+    }
+
+    @Test
+    public void testSaveLoadAndStaleDetection() throws Exception {
+        Graph dag = SyntheticGraphs.randomDAG(2_000, 3, 10);
+        Path file = dir.resolve("hubs.bin");
+        HubLabelIndex built = HubLabelIndex.loadOrBuild(file, dag);
+        assertTrue(Files.size(file) > 0);
+
+        HubLabelIndex loaded = HubLabelIndex.load(file);
+        assertTrue(loaded.matches(CSRGraph.copyOf(dag)));
+        assertEquals(built.getLabelEntries(), loaded.getLabelEntries());
+        assertEquals(built.getBuildMillis(), loaded.getBuildMillis());
+        Random r = new Random(3);
+        for (int q = 0; q < 1_000; q++) {
+            int s = r.nextInt(2_000);
+            int t = r.nextInt(2_000);
+            assertEquals(built.distance(s, t), loaded.distance(s, t));
+        }
+
+        dag.addEdge(0, 1_999, 0.5); // the daily change
+        assertFalse(loaded.matches(dag));
+        HubLabelIndex rebuilt = HubLabelIndex.loadOrBuild(file, dag);
+        assertTrue(rebuilt.matches(dag));
+        assertTrue(HubLabelIndex.load(file).matches(dag));
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(java.io.IOException.class, () -> HubLabelIndex.load(file));
+    }
+}
@@ -0,0 +1,80 @@
+package graph.partition;
+
+import benchmark.SyntheticGraphs;
+import graph.core.CSRGraph;
+import graph.core.EdgeCursor;
+import graph.core.Graph;
+import graph.core.GraphIO;
+import graph.dagsp.DAGLongestPath;
+import graph.scc.TarjanSCC;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardCoordinatorTest {
+
+    @Test
+    public void testBoundaryEdgesPointForward() {
+        Graph g = SyntheticGraphs.randomDigraph(5000, 2, 8);
+        GraphPartition partition = GraphPartition.byLevels(g, 4);
+        assertTrue(partition.getNumShards() > 1 && partition.getNumShards() <= 4);
+
+        long boundary = 0;
+        EdgeCursor cursor = g.newEdgeCursor();
+        for (int u = 0; u < g.getNumVertices(); u++) {
+            cursor.reset(u);
+            while (cursor.next()) {
+                int from = partition.getShardOf(u);
+                int to = partition.getShardOf(cursor.target());
+                assertTrue(from <= to);
+                if (from != to) boundary++;
+            }
+        }
+        assertEquals(boundary, partition.getBoundaryEdges());
+        assertThrows(IllegalArgumentException.class, () -> GraphPartition.byLevels(g, 0));
+    }
+
+    @Test
+    public void testWorkerProcessesMatchSingleProcess(@TempDir Path dir) throws IOException {
+        Random r = new Random(6);
+        Graph source = SyntheticGraphs.randomDigraph(3000, 2, 6);
+        for (int v = 0; v < source.getNumVertices(); v++) source.setVertexWeight(v, 1 + r.nextInt(5));
+        CSRGraph g = CSRGraph.copyOf(source);
+        GraphPartition partition = GraphPartition.byLevels(g, 3);
+        partition.write(dir);
+
+        ShardCoordinator.Result result = new ShardCoordinator(dir).workerHeap("64m").run();
+        assertEquals(partition.getNumShards(), result.getWorkerMillis().length);
+
+        TarjanSCC scc = new TarjanSCC(g);
+        scc.detectSCCs();
+        assertEquals(scc.getComponents().size(), result.getNumComponents());
+        int[] ids = result.getComponentIds();
+        int[] expectedIds = scc.getComponentIds();
+        Map<Integer, Integer> sameComponent = new HashMap<>();
+        for (int v = 0; v < g.getNumVertices(); v++) {
+            sameComponent.putIfAbsent(ids[v], expectedIds[v]);
+            assertEquals(expectedIds[v], sameComponent.get(ids[v]));
+            for (int e = 0; e < g.getOutDegree(v); e++) assertTrue(ids[v] >= ids[g.getEdgeTarget(v, e)]);
+        }
+        assertArrayEquals(ShardWorker.finishTimes(g, scc, null), result.getFinishTimes(), 1e-9);
+    }
+
+    @Test
+    public void testDagMakespanAndFailingWorker(@TempDir Path dir) throws IOException {
+        Graph g = SyntheticGraphs.randomDAG(2000, 3, 4);
+        GraphPartition.byLevels(g, 4).write(dir);
+        double longest = 0.0;
+        for (double tail : new DAGLongestPath(g).computeTailLengths()) longest = Math.max(longest, tail);
+        assertEquals(longest, new ShardCoordinator(dir).run().getMakespan(), 1e-9);
+
+        GraphIO.writeInts(new int[]{1, 2, 3}, dir.resolve("shard-0.graph"));
+        IOException failure = assertThrows(IOException.class, () -> new ShardCoordinator(dir).run());
+        assertTrue(failure.getMessage().contains("shard-0.log"));
+        assertTrue(Files.readString(dir.resolve("shard-0.log")).contains("Not a graph checkpoint"));
+    }
+}
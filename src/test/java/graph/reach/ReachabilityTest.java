@@ -0,0 +1,119 @@
+package graph.reach;
+
+import benchmark.SyntheticGraphs;
+import graph.core.EdgeCursor;
+import graph.core.Graph;
+import graph.core.GraphView;
+import graph.scc.CondensationGraph;
+import graph.scc.TarjanSCC;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReachabilityTest {
+
+    private boolean[] bfs(GraphView g, int source, int skipFrom, int skipTo) {
+        boolean[] seen = new boolean[g.getNumVertices()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(source);
+        seen[source] = true;
+        EdgeCursor cursor = g.newEdgeCursor();
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            cursor.reset(u);
+            while (cursor.next()) {
+                int v = cursor.target();
+                if (u == skipFrom && v == skipTo) continue;
+                if (!seen[v]) {
+                    seen[v] = true;
+                    queue.add(v);
+                }
+            }
+        }
+        return seen;
+    }
+
+    @Test
+    public void testIndexMatchesTraversal() {
+        Graph g = SyntheticGraphs.randomDAG(150, 2, 3);
+        ReachabilityIndex index = new ReachabilityIndex(g);
+        for (int u = 0; u < 150; u++) {
+            boolean[] seen = bfs(g, u, -1, -1);
+            for (int v = 0; v < 150; v++) assertEquals(seen[v], index.reaches(u, v));
+        }
+        assertTrue(index.getMemoryBytes() > 0);
+    }
+
+    @Test
+    public void testReductionKeepsReachabilityAndDropsRedundantEdges() {
+        Graph g = SyntheticGraphs.randomDAG(80, 4, 6);
+        g.addEdge(0, 1, 1.0);
+        g.addEdge(0, 1, 2.0);
+        TransitiveReduction reduction = new TransitiveReduction(g);
+        Graph reduced = reduction.reduce();
+
+        assertEquals(g.getNumEdges() - reduction.getRemovedEdgeCount(), reduced.getNumEdges());
+        assertTrue(reduction.getRemovedEdgeCount() > 0);
+        for (int u = 0; u < 80; u++) {
+            assertArrayEquals(bfs(g, u, -1, -1), bfs(reduced, u, -1, -1));
+            for (int i = 0; i < reduced.getOutDegree(u); i++) {
+                int v = reduced.getEdgeTarget(u, i);
+                assertFalse(bfs(reduced, u, u, v)[v], "edge " + u + "->" + v + " is redundant");
+            }
+        }
+    }
+
+    @Test
+    public void testTaskLevelQueriesOnCondensation() {
+        Graph g = new Graph(5);
+        g.addEdge(0, 1, 1.0);
+        g.addEdge(1, 0, 1.0);
+        g.addEdge(1, 2, 1.0);
+        g.addEdge(0, 2, 1.0);
+        g.addEdge(3, 4, 1.0);
+
+        TarjanSCC scc = new TarjanSCC(g);
+        scc.detectSCCs();
+        CondensationGraph cond = scc.getCondensationGraph();
+        TransitiveReduction reduction = new TransitiveReduction(cond);
+        assertTrue(reduction.reduce() instanceof CondensationGraph);
+
+        ReachabilityIndex index = reduction.getIndex();
+        int[] comp = scc.getComponentIds();
+        assertTrue(index.taskDependsOn(comp, 2, 0));
+        assertTrue(index.taskDependsOn(comp, 0, 1));
+        assertFalse(index.taskDependsOn(comp, 0, 2));
+        assertFalse(index.taskDependsOn(comp, 4, 0));
+    }
+
+    @Test
+    public void testMemoryBudgetIsEnforced() {
+        Graph wide = new Graph(100);
+        assertThrows(IllegalStateException.class, () -> new ReachabilityIndex(wide, 1024));
+    }
+
+    @Test
+    public void testBatchQueriesMatchTraversal() {
+        Graph g = SyntheticGraphs.randomDigraph(300, 1, 7);
+        Graph reversed = g.reverse();
+        TarjanSCC scc = new TarjanSCC(g);
+        scc.detectSCCs();
+        BatchReachability batch = new BatchReachability(g, scc, 1);
+
+        int[] sources = new int[150];
+        for (int i = 0; i < sources.length; i++) sources[i] = (i * 7) % 300;
+        int[] downstream = batch.countReachable(sources, BatchReachability.Direction.DOWNSTREAM);
+        List<BitSet> upstream = batch.reachableSets(sources, BatchReachability.Direction.UPSTREAM);
+
+        for (int i = 0; i < sources.length; i++) {
+            boolean[] forward = bfs(g, sources[i], -1, -1);
+            boolean[] backward = bfs(reversed, sources[i], -1, -1);
+            int expected = 0;
+            for (int v = 0; v < 300; v++) {
+                if (forward[v]) expected++;
+                assertEquals(backward[v], upstream.get(i).get(v));
+            }
+            assertEquals(expected, downstream[i]);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package graph.reorder;
+
+import benchmark.SyntheticGraphs;
+import graph.core.CSRGraph;
+import graph.core.EdgeCursor;
+import graph.core.Graph;
+import graph.dagsp.DAGShortestPaths;
+import graph.scc.Component;
+import graph.scc.TarjanSCC;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VertexOrderingTest {
+
+    private Set<Set<Integer>> componentSets(List<Component> components) {
+        Set<Set<Integer>> result = new HashSet<>();
+        for (Component c : components) result.add(new HashSet<>(c.getVertices()));
+        return result;
+    }
+
+    @Test
+    public void testComponentsMapBackToOriginalIds() {
+        Graph g = SyntheticGraphs.randomDigraph(300, 2, 5);
+        TarjanSCC original = new TarjanSCC(g);
+        original.detectSCCs();
+
+        for (VertexOrdering ordering : Arrays.asList(
+                VertexOrdering.breadthFirst(g), VertexOrdering.reverseCuthillMcKee(g))) {
+            TarjanSCC reordered = new TarjanSCC(ordering.apply(g));
+            reordered.detectSCCs();
+            assertEquals(componentSets(original.getComponents()),
+                    componentSets(ordering.mapComponents(reordered.getComponents())));
+        }
+    }
+
+    @Test
+    public void testTopologicalRelabelAndDistances() {
+        Graph g = SyntheticGraphs.randomDAG(300, 3, 9);
+        VertexOrdering ordering = VertexOrdering.topological(g);
+        CSRGraph relabeled = ordering.apply(g);
+
+        EdgeCursor cursor = relabeled.newEdgeCursor();
+        for (int u = 0; u < relabeled.getNumVertices(); u++) {
+            cursor.reset(u);
+            while (cursor.next()) assertTrue(cursor.target() > u);
+        }
+
+        DAGShortestPaths sp = new DAGShortestPaths(g);
+        sp.computeShortestPaths(0);
+        DAGShortestPaths spRelabeled = new DAGShortestPaths(relabeled);
+        spRelabeled.computeShortestPaths(ordering.toReordered(0));
+
+        assertArrayEquals(sp.getDistances(), ordering.mapValues(spRelabeled.getDistances()));
+        assertEquals(sp.reconstructPath(299).getLength(),
+                ordering.mapPath(spRelabeled.reconstructPath(ordering.toReordered(299))).getLength());
+    }
+
+    @Test
+    public void testRejectsInvalidPermutation() {
+        assertThrows(IllegalArgumentException.class, () -> VertexOrdering.fromPermutation(new int[]{0, 0, 1}));
+        Graph cyclic = new Graph(2);
+        cyclic.addEdge(0, 1, 1.0);
+        cyclic.addEdge(1, 0, 1.0);
+        assertThrows(IllegalArgumentException.class, () -> VertexOrdering.topological(cyclic));
+    }
+}
@@ -0,0 +1,63 @@
+package graph.scc;
+
+import benchmark.SyntheticGraphs;
+import graph.core.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentStatisticsTest {
+
+    @Test
+    public void testAggregatesMatchCondensation() {
+        // cycle 0-1-2 feeds 3, which feeds the cycle 4-5
+        Graph g = new Graph(6);
+        for (int v = 0; v < 6; v++) g.setVertexWeight(v, v + 1);
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, 1);
+        g.addEdge(2, 0, 1);
+        g.addEdge(0, 3, 1);
+        g.addEdge(2, 3, 1);
+        g.addEdge(3, 4, 1);
+        g.addEdge(4, 5, 1);
+        g.addEdge(5, 4, 1);
+        TarjanSCC scc = new TarjanSCC(g);
+        scc.detectSCCs();
+        ComponentStatistics stats = new ComponentStatistics(g, scc);
+        assertThrows(IllegalStateException.class, () -> stats.getHotspots(1));
+        stats.compute();
+
+        int first = scc.getComponentIds()[0];
+        int middle = scc.getComponentIds()[3];
+        int last = scc.getComponentIds()[4];
+        assertEquals(3, stats.getSize(first));
+        assertEquals(3, stats.getInternalEdges(first));
+        assertEquals(6.0, stats.getWeight(first));
+        assertEquals(0, stats.getInDegree(first));
+        assertEquals(2, stats.getOutDegree(first)); // both 0->3 and 2->3 count
+        assertEquals(2, stats.getInDegree(middle));
+        assertEquals(11.0, stats.getWeight(last));
+        assertEquals(3, stats.getLargestSize());
+        assertEquals(1, stats.getSingletonCount());
+        assertEquals(5, stats.getTotalInternalEdges());
+        assertArrayEquals(new int[]{last, first}, stats.getHotspots(2));
+    }
+
+    @Test
+    public void testTotalsOnRandomGraph() {
+        Graph g = SyntheticGraphs.randomDigraph(3000, 2, 4);
+        SCCAlgorithm scc = SCCAlgorithmType.TARJAN.create(g);
+        scc.detectSCCs();
+        ComponentStatistics stats = new ComponentStatistics(g, scc);
+        stats.compute();
+
+        long sizes = 0;
+        long crossing = 0;
+        for (int c = 0; c < stats.getNumComponents(); c++) {
+            sizes += stats.getSize(c);
+            crossing += stats.getOutDegree(c);
+            assertEquals(scc.getComponents().get(c).getSize(), stats.getSize(c));
+        }
+        assertEquals(g.getNumVertices(), sizes);
+        assertEquals(g.getNumEdges(), crossing + stats.getTotalInternalEdges());
+    }
+}
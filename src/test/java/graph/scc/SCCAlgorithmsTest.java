@@ -0,0 +1,140 @@
+package graph.scc;
+
+import benchmark.SyntheticGraphs;
+import graph.core.EdgeCursor;
+import graph.core.Graph;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SCCAlgorithmsTest {
+
+    private Set<Set<Integer>> componentSets(SCCAlgorithm scc) {
+        Set<Set<Integer>> result = new HashSet<>();
+        for (Component c : scc.getComponents()) result.add(new HashSet<>(c.getVertices()));
+        return result;
+    }
+
+    @Test
+    public void testAllAlgorithmsAgree() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Graph g = SyntheticGraphs.randomDigraph(400, 1 + (int) seed % 3, seed);
+            SCCAlgorithm tarjan = SCCAlgorithmType.TARJAN.create(g);
+            tarjan.detectSCCs();
+
+            for (SCCAlgorithmType type : SCCAlgorithmType.values()) {
+                SCCAlgorithm scc = type.create(g);
+                scc.detectSCCs();
+                assertEquals(componentSets(tarjan), componentSets(scc), type.toString());
+                assertEquals(tarjan.getCondensationGraph().getNumEdges(),
+                        scc.getCondensationGraph().getNumEdges(), type.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testComponentsInReverseTopologicalOrder() {
+        Graph g = SyntheticGraphs.randomDigraph(400, 2, 3);
+        for (SCCAlgorithmType type : SCCAlgorithmType.values()) {
+            SCCAlgorithm scc = type.create(g);
+            scc.detectSCCs();
+            int[] ids = scc.getComponentIds();
+            EdgeCursor cursor = g.newEdgeCursor();
+            for (int u = 0; u < g.getNumVertices(); u++) {
+                cursor.reset(u);
+                while (cursor.next()) {
+                    assertTrue(ids[u] >= ids[cursor.target()], type.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPathBasedMatchesTarjanExactly() {
+        Graph g = SyntheticGraphs.randomDigraph(400, 2, 21);
+        SCCAlgorithm tarjan = SCCAlgorithmType.TARJAN.create(g);
+        tarjan.detectSCCs();
+        SCCAlgorithm gabow = SCCAlgorithmType.fromName("gabow").create(g);
+        gabow.detectSCCs();
+        assertEquals(tarjan.getComponents().toString(), gabow.getComponents().toString());
+    }
+
+    @Test
+    public void testCycleWitnessesAndFeedbackArcs() {
+        Graph g = SyntheticGraphs.randomDigraph(500, 2, 11);
+        g.addEdge(7, 7, 1.0);
+        TarjanSCC scc = new TarjanSCC(g);
+        scc.detectSCCs();
+        int[] ids = scc.getComponentIds();
+        CycleAnalyzer analyzer = new CycleAnalyzer(g, scc);
+        List<CycleReport> reports = analyzer.analyze();
+        assertFalse(reports.isEmpty());
+
+        Set<Long> feedback = new HashSet<>();
+        long intraEdges = 0;
+        for (CycleReport report : reports) {
+            List<Integer> cycle = report.getWitnessCycle();
+            for (int i = 0; i < cycle.size(); i++) {
+                int u = cycle.get(i);
+                int v = cycle.get((i + 1) % cycle.size());
+                assertEquals(report.getComponentId(), ids[u]);
+                boolean hasEdge = false;
+                for (int j = 0; j < g.getOutDegree(u); j++) hasEdge |= g.getEdgeTarget(u, j) == v;
+                assertTrue(hasEdge, report.describeCycle());
+            }
+            for (int[] arc : report.getFeedbackArcs()) feedback.add(((long) arc[0] << 32) | arc[1]);
+        }
+        assertEquals(analyzer.getFeedbackArcCount(), feedback.size());
+
+        Graph acyclic = new Graph(g.getNumVertices());
+        for (int u = 0; u < g.getNumVertices(); u++) {
+            for (int j = 0; j < g.getOutDegree(u); j++) {
+                int v = g.getEdgeTarget(u, j);
+                if (ids[u] == ids[v]) intraEdges++;
+                if (!feedback.contains(((long) u << 32) | v)) acyclic.addEdge(u, v, 1.0);
+            }
+        }
+        TarjanSCC check = new TarjanSCC(acyclic);
+        check.detectSCCs();
+        assertEquals(acyclic.getNumVertices(), check.getComponents().size());
+        assertTrue(feedback.size() <= intraEdges / 2 + 1);
+    }
+
+    @Test
+    public void testPrecomputedMatchesOriginal() {
+        Graph g = SyntheticGraphs.randomDigraph(400, 2, 5);
+        TarjanSCC tarjan = new TarjanSCC(g);
+        tarjan.detectSCCs();
+        PrecomputedSCC restored = new PrecomputedSCC(g, tarjan.getComponentIds().clone());
+        restored.detectSCCs();
+
+        assertEquals(componentSets(tarjan), componentSets(restored));
+        assertEquals(tarjan.getCondensationGraph().getNumEdges(), restored.getCondensationGraph().getNumEdges());
+        assertThrows(IllegalArgumentException.class, () -> new PrecomputedSCC(g, new int[3]));
+    }
+
+    @Test
+    public void testCondensationOrderAndParallelBuild() {
+        Graph g = SyntheticGraphs.randomDigraph(5_000, 2, 21);
+        TarjanSCC tarjan = new TarjanSCC(g);
+        tarjan.detectSCCs();
+        int[] order = tarjan.getCondensationTopologicalOrder();
+        int[] position = new int[order.length];
+        for (int i = 0; i < order.length; i++) position[order[i]] = i;
+
+        CondensationGraph sequential = CondensationGraph.build(g, tarjan.getComponentIds(), tarjan.getComponents(), 1);
+        CondensationGraph parallel = CondensationGraph.build(g, tarjan.getComponentIds(), tarjan.getComponents(), 4);
+        assertEquals(sequential.getNumEdges(), parallel.getNumEdges());
+        Set<String> pairs = new HashSet<>();
+        for (int c = 0; c < sequential.getNumVertices(); c++) {
+            assertEquals(sequential.getOutDegree(c), parallel.getOutDegree(c));
+            for (int i = 0; i < sequential.getOutDegree(c); i++) {
+                int d = sequential.getEdgeTarget(c, i);
+                assertEquals(d, parallel.getEdgeTarget(c, i));
+                assertEquals(sequential.getEdgeWeight(c, i), parallel.getEdgeWeight(c, i));
+                assertTrue(position[c] < position[d]);
+                assertTrue(pairs.add(c + "-" + d));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package graph.schedule;
+
+import benchmark.SyntheticGraphs;
+import graph.core.EdgeCursor;
+import graph.core.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListSchedulerTest {
+
+    @Test
+    public void testSingleWorkerRunsTasksBackToBack() {
+        Graph g = new Graph(3);
+        g.setVertexWeight(0, 2.0);
+        g.setVertexWeight(1, 3.0);
+        g.setVertexWeight(2, 4.0);
+        g.addEdge(0, 2, 0.0);
+
+        ListScheduler scheduler = new ListScheduler(g, 1);
+        assertTrue(scheduler.schedule());
+        assertEquals(9.0, scheduler.getMakespan());
+        // 0 heads the longest chain, so it starts first
+        assertEquals(0.0, scheduler.getStartTimes()[0]);
+        assertEquals(6.0, scheduler.getCriticalPathBound());
+    }
+
+    @Test
+    public void testScheduleRespectsPrecedenceAndCapacity() {
+        Graph g = SyntheticGraphs.randomDAG(2000, 3, 5);
+        int workers = 4;
+        ListScheduler scheduler = new ListScheduler(g, workers);
+        assertTrue(scheduler.schedule());
+
+        double[] start = scheduler.getStartTimes();
+        double[] finish = scheduler.getFinishTimes();
+        EdgeCursor cursor = g.newEdgeCursor();
+        for (int u = 0; u < g.getNumVertices(); u++) {
+            cursor.reset(u);
+            while (cursor.next()) {
+                assertTrue(start[cursor.target()] >= finish[u] + cursor.weight() - 1e-9);
+            }
+        }
+
+        int[] worker = scheduler.getAssignedWorkers();
+        for (int u = 0; u < g.getNumVertices(); u++) {
+            assertTrue(worker[u] >= 0 && worker[u] < workers);
+            for (int v = u + 1; v < g.getNumVertices(); v++) {
+                if (worker[u] == worker[v]) {
+                    assertTrue(finish[u] <= start[v] + 1e-9 || finish[v] <= start[u] + 1e-9);
+                }
+            }
+        }
+
+        assertTrue(scheduler.getMakespan() >= scheduler.getCriticalPathBound() - 1e-9);
+        assertTrue(scheduler.getMakespan() >= scheduler.getWorkBound() - 1e-9);
+    }
+
+    @Test
+    public void testUnboundedWorkersReachCriticalPath() {
+        Graph g = SyntheticGraphs.randomDAG(500, 3, 8);
+        ListScheduler scheduler = new ListScheduler(g, 500);
+        assertTrue(scheduler.schedule());
+        assertEquals(scheduler.getCriticalPathBound(), scheduler.getMakespan(), 1e-9);
+    }
+
+    @Test
+    public void testCyclicGraphIsRejected() {
+        Graph g = new Graph(2);
+        g.addEdge(0, 1, 1.0);
+        g.addEdge(1, 0, 1.0);
+        assertFalse(new ListScheduler(g, 2).schedule());
+    }
+}
@@ -0,0 +1,66 @@
+package graph.schedule;
+
+import benchmark.SyntheticGraphs;
+import graph.core.Graph;
+import graph.dagsp.DAGLongestPath;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloSimulationTest {
+
+    @Test
+    public void testZeroSpreadMatchesLongestPath() {
+        Graph g = SyntheticGraphs.randomDAG(3000, 3, 11);
+        double expected = 0.0;
+        for (double tail : new DAGLongestPath(g).computeTailLengths()) expected = Math.max(expected, tail);
+
+        MonteCarloSimulation.Result result = new MonteCarloSimulation(g)
+                .simulate(100, MonteCarloSimulation.uniform(0.0), 1);
+        assertEquals(expected, result.getMin(), 1e-9);
+        assertEquals(expected, result.getMax(), 1e-9);
+        // every scenario is the nominal one, so criticality is 0 or 1
+        for (double c : result.getCriticalityIndices()) assertTrue(c == 0.0 || c == 1.0);
+    }
+
+    @Test
+    public void testCriticalityOfParallelBranches() {
+        // 0 -> {1, 2} -> 3, branch 1 is always longer than branch 2
+        Graph g = new Graph(4);
+        g.setVertexWeight(0, 1.0);
+        g.setVertexWeight(1, 10.0);
+        g.setVertexWeight(2, 5.0);
+        g.setVertexWeight(3, 1.0);
+        g.addEdge(0, 1, 0.0);
+        g.addEdge(0, 2, 0.0);
+        g.addEdge(1, 3, 0.0);
+        g.addEdge(2, 3, 0.0);
+
+        MonteCarloSimulation.Result result = new MonteCarloSimulation(g)
+                .simulate(1000, MonteCarloSimulation.triangular(0.9, 1.2), 3);
+        assertEquals(1.0, result.getCriticality(0));
+        assertEquals(1.0, result.getCriticality(1));
+        assertEquals(0.0, result.getCriticality(2));
+        assertEquals(1.0, result.getCriticality(3));
+        assertTrue(result.getMin() >= 0.9 * 12 - 1e-9 && result.getMax() <= 1.2 * 12 + 1e-9);
+        assertTrue(result.getPercentile(50) <= result.getPercentile(90));
+        assertEquals(1.0, result.getProbabilityWithin(result.getMax()));
+    }
+
+    @Test
+    public void testIndependentOfThreadCount() {
+        Graph g = SyntheticGraphs.randomDAG(2000, 3, 5);
+        MonteCarloSimulation simulation = new MonteCarloSimulation(g).blockSize(16);
+        MonteCarloSimulation.DurationModel model = MonteCarloSimulation.triangular(0.8, 1.5);
+        MonteCarloSimulation.Result one = simulation.simulate(500, model, 42, 1);
+        MonteCarloSimulation.Result four = simulation.simulate(500, model, 42, 4);
+        assertArrayEquals(one.getCompletionTimes(), four.getCompletionTimes());
+        assertArrayEquals(one.getCriticalityIndices(), four.getCriticalityIndices());
+        assertEquals(500, one.getScenarios());
+        assertArrayEquals(new int[0], one.getMostCritical(0));
+        assertThrows(IllegalArgumentException.class, () -> one.getMostCritical(-1));
+
+        MonteCarloSimulation.Result other = simulation.simulate(500, model, 43, 1);
+        assertNotEquals(one.getMean(), other.getMean());
+        assertThrows(IllegalArgumentException.class, () -> simulation.simulate(0, model, 1));
+    }
+}
@@ -0,0 +1,91 @@
+package graph.stream;
+
+import graph.core.Graph;
+import graph.dagsp.DAGLongestPath;
+import graph.dagsp.PathResult;
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlidingWindowCriticalPathTest {
+
+    @Test
+    public void testWindowEvictionAndPath() {
+        SlidingWindowCriticalPath window = new SlidingWindowCriticalPath(10, 100, 100);
+        window.accept(StreamEvent.task(0, 1, 5.0));
+        window.accept(StreamEvent.task(1, 2, 3.0));
+        window.accept(StreamEvent.task(2, 3, 4.0));
+        window.accept(StreamEvent.dependency(3, 1, 2, 1.0));
+        window.accept(StreamEvent.dependency(3, 2, 3, 0.0));
+        window.accept(StreamEvent.dependency(4, 3, 1, 0.0)); // backwards in arrival order
+        window.accept(StreamEvent.dependency(4, 1, 42, 0.0)); // unknown task
+
+        PathResult path = window.getCriticalPath();
+        assertEquals(Arrays.asList(1, 2, 3), path.getPath());
+        assertEquals(13.0, path.getLength(), 1e-9);
+        assertEquals(2, window.getDroppedDependencies());
+
+        window.advanceTo(10); // task 1 expires together with its out-edge
+        assertEquals(2, window.getLiveTasks());
+        assertEquals(1, window.getLiveDependencies());
+        assertEquals(Arrays.asList(2, 3), window.getCriticalPath().getPath());
+        assertEquals(7.0, window.getCriticalPathLength(), 1e-9);
+        assertEquals(1, window.getExpiredTasks());
+
+        assertThrows(IllegalArgumentException.class, () -> window.advanceTo(9));
+        assertEquals(7, window.getEventLatency().getCount());
+        assertSame(window.getEventLatency(), window.getMetrics().getHistogram());
+    }
+
+    @Test
+    public void testMatchesBatchLongestPathUnderChurn() {
+        Random r = new Random(17);
+        int capacity = 24;
+        SlidingWindowCriticalPath window = new SlidingWindowCriticalPath(50, capacity, 256);
+        // mirror of the window: id -> (arrival, duration), plus live dependencies
+        LinkedHashMap<Integer, long[]> live = new LinkedHashMap<>();
+        Map<Integer, Double> durations = new HashMap<>();
+        List<double[]> deps = new ArrayList<>();
+
+        // dense arrivals overflow the capacity in the first half, sparse ones expire in the second
+        for (int step = 0, id = 0, t = 0; step < 2_000; step++, t += step < 1_000 ? 1 : 3) {
+            final long now = t;
+            live.values().removeIf(v -> v[0] <= now - 50);
+            if (r.nextInt(3) > 0 || live.size() < 2) {
+                double d = 1 + r.nextInt(9);
+                window.accept(StreamEvent.task(t, id, d));
+                if (live.size() == capacity) live.remove(live.keySet().iterator().next());
+                live.put(id, new long[]{t});
+                durations.put(id, d);
+                id++;
+            } else {
+                List<Integer> ids = new ArrayList<>(live.keySet());
+                int a = r.nextInt(ids.size() - 1);
+                int b = a + 1 + r.nextInt(ids.size() - a - 1);
+                double lag = r.nextInt(3);
+                window.accept(StreamEvent.dependency(t, ids.get(a), ids.get(b), lag));
+                deps.add(new double[]{ids.get(a), ids.get(b), lag});
+            }
+            deps.removeIf(e -> !live.containsKey((int) e[0]) || !live.containsKey((int) e[1]));
+
+            if (step % 97 == 0) {
+                assertEquals(live.size(), window.getLiveTasks());
+                assertEquals(deps.size(), window.getLiveDependencies());
+                assertEquals(batchLength(live.keySet(), durations, deps), window.getCriticalPathLength(), 1e-9);
+            }
+        }
+        assertTrue(window.getForcedEvictions() > 0);
+        assertTrue(window.getExpiredTasks() > 0);
+    }
+
+    private static double batchLength(Collection<Integer> ids, Map<Integer, Double> durations, List<double[]> deps) {
+        Map<Integer, Integer> index = new HashMap<>();
+        for (int id : ids) index.put(id, index.size());
+        Graph g = new Graph(index.size());
+        for (int id : ids) g.setVertexWeight(index.get(id), durations.get(id));
+        for (double[] e : deps) g.addEdge(index.get((int) e[0]), index.get((int) e[1]), e[2]);
+        double best = 0.0;
+        for (double tail : new DAGLongestPath(g).computeTailLengths()) best = Math.max(best, tail);
+        return best;
+    }
+}
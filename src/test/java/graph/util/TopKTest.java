@@ -0,0 +1,24 @@
+package graph.util;
+
+import org.junit.jupiter.api.Test;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TopKTest {
+
+    @Test
+    public void testLargestMatchesSort() {
+        Random r = new Random(9);
+        double[] score = new double[5000];
+        for (int i = 0; i < score.length; i++) score[i] = r.nextInt(200);
+        Integer[] ids = new Integer[score.length];
+        for (int i = 0; i < ids.length; i++) ids[i] = i;
+        Arrays.sort(ids, (a, b) -> score[a] != score[b] ? Double.compare(score[b], score[a]) : Integer.compare(a, b));
+
+        int[] top = TopK.largest(score, 50);
+        for (int i = 0; i < top.length; i++) assertEquals((int) ids[i], top[i]);
+        assertEquals(0, TopK.largest(score, 0).length);
+        assertEquals(3, TopK.largest(new double[3], 10).length);
+        assertThrows(IllegalArgumentException.class, () -> TopK.largest(score, -1));
+    }
+}